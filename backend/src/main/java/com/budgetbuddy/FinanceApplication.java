@@ -1,12 +1,25 @@
 package com.budgetbuddy;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+import java.util.Arrays;
+
+// R2DBC is only used by the optional reactive read API, which sets up its own pool (see ReactiveApiConfig).
+// Boot's version would insist on a spring.r2dbc.url and could replace the JPA transaction manager.
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class FinanceApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(FinanceApplication.class, args);
+        SpringApplication application = new SpringApplication(FinanceApplication.class);
+        if (Arrays.asList(args).contains("--rebuild-rollups")) {
+            // One-off job (see RollupRebuildRunner): no web server, and the process ends once the rebuild is done
+            application.setWebApplicationType(WebApplicationType.NONE);
+            System.exit(SpringApplication.exit(application.run(args)));
+        }
+        application.run(args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,197 @@
+package com.budgetbuddy.config;
+
+import com.budgetbuddy.util.TokenBucketLimiter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login and registration per client address and per target email before they reach
+ * AuthController, so credential stuffing is turned away without a database lookup or a bcrypt hash.
+ * The address bucket is checked first since it needs nothing but the request line.
+ */
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    // Login and register bodies are a handful of fields; anything larger isn't keyed by email
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final TokenBucketLimiter byIp;
+    private final TokenBucketLimiter byEmail;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    public AuthRateLimitFilter(AuthRateLimitProperties properties, MeterRegistry registry) {
+        this.byIp = new TokenBucketLimiter(properties.getIpCapacity(), properties.getIpRefill(),
+                properties.getIpRefillPeriod(), properties.getStripes(), properties.getMaxKeys());
+        this.byEmail = new TokenBucketLimiter(properties.getEmailCapacity(), properties.getEmailRefill(),
+                properties.getEmailRefillPeriod(), properties.getStripes(), properties.getMaxKeys());
+
+        this.ipRejections = Counter.builder("auth.ratelimit.rejected").tag("key", "ip").register(registry);
+        this.emailRejections = Counter.builder("auth.ratelimit.rejected").tag("key", "email").register(registry);
+        Gauge.builder("auth.ratelimit.buckets", byIp, TokenBucketLimiter::size).tag("key", "ip").register(registry);
+        Gauge.builder("auth.ratelimit.buckets", byEmail, TokenBucketLimiter::size).tag("key", "email").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.equals("/api/auth/login") && !path.equals("/api/auth/register");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Behind a proxy this relies on server.forward-headers-strategy; X-Forwarded-For is never trusted directly
+        long waitNanos = byIp.tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            ipRejections.increment();
+            tooManyRequests(response, waitNanos);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length <= MAX_BODY_BYTES) {
+            String email = readEmail(body);
+            if (email != null) {
+                waitNanos = byEmail.tryAcquire(email);
+                if (waitNanos > 0) {
+                    emailRejections.increment();
+                    tooManyRequests(response, waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    // Streams the top-level fields only; malformed JSON is left for the controller to reject
+    private static String readEmail(byte[] body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("email".equals(field) && value == JsonToken.VALUE_STRING) {
+                    String email = parser.getText().trim();
+                    return email.isEmpty() ? null : email.toLowerCase(Locale.ROOT);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void tooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("Too many attempts, please retry later");
+    }
+
+    /** Replays the body this filter already consumed so the controller can still bind it */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            ServletInputStream remainder = super.getInputStream();
+            ByteArrayInputStream cached = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int b = cached.read();
+                    return b != -1 ? b : remainder.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = cached.read(b, off, len);
+                    return n != -1 ? n : remainder.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return cached.available() == 0 && remainder.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return cached.available() > 0 || remainder.isReady();
+                }
+
+                // Non-blocking reads: the container only knows about the remainder, so the cached bytes are
+                // offered to the listener before it hears that all data has been read
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    remainder.setReadListener(new ReadListener() {
+                        @Override
+                        public void onDataAvailable() throws IOException {
+                            listener.onDataAvailable();
+                        }
+
+                        @Override
+                        public void onAllDataRead() throws IOException {
+                            if (cached.available() > 0) {
+                                listener.onDataAvailable();
+                            }
+                            listener.onAllDataRead();
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            listener.onError(t);
+                        }
+                    });
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
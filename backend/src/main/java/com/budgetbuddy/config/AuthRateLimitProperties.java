@@ -0,0 +1,111 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class AuthRateLimitProperties {
+
+    // Maps to 'auth.rate-limit.enabled'
+    private boolean enabled = true;
+
+    // Maps to 'auth.rate-limit.ip-capacity'; burst of login/register attempts allowed from one client address
+    private int ipCapacity = 30;
+
+    // Maps to 'auth.rate-limit.ip-refill'; attempts regained per ip-refill-period
+    private int ipRefill = 30;
+
+    // Maps to 'auth.rate-limit.ip-refill-period'
+    private Duration ipRefillPeriod = Duration.ofMinutes(1);
+
+    // Maps to 'auth.rate-limit.email-capacity'; burst of attempts against one account, whatever the source
+    private int emailCapacity = 10;
+
+    // Maps to 'auth.rate-limit.email-refill'
+    private int emailRefill = 10;
+
+    // Maps to 'auth.rate-limit.email-refill-period'
+    private Duration emailRefillPeriod = Duration.ofMinutes(15);
+
+    // Maps to 'auth.rate-limit.stripes'; independently locked shards per limiter
+    private int stripes = 64;
+
+    // Maps to 'auth.rate-limit.max-keys'; buckets tracked per limiter before the least recently used are dropped
+    private int maxKeys = 100_000;
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIpCapacity() {
+        return ipCapacity;
+    }
+
+    public void setIpCapacity(int ipCapacity) {
+        this.ipCapacity = ipCapacity;
+    }
+
+    public int getIpRefill() {
+        return ipRefill;
+    }
+
+    public void setIpRefill(int ipRefill) {
+        this.ipRefill = ipRefill;
+    }
+
+    public Duration getIpRefillPeriod() {
+        return ipRefillPeriod;
+    }
+
+    public void setIpRefillPeriod(Duration ipRefillPeriod) {
+        this.ipRefillPeriod = ipRefillPeriod;
+    }
+
+    public int getEmailCapacity() {
+        return emailCapacity;
+    }
+
+    public void setEmailCapacity(int emailCapacity) {
+        this.emailCapacity = emailCapacity;
+    }
+
+    public int getEmailRefill() {
+        return emailRefill;
+    }
+
+    public void setEmailRefill(int emailRefill) {
+        this.emailRefill = emailRefill;
+    }
+
+    public Duration getEmailRefillPeriod() {
+        return emailRefillPeriod;
+    }
+
+    public void setEmailRefillPeriod(Duration emailRefillPeriod) {
+        this.emailRefillPeriod = emailRefillPeriod;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+}
@@ -0,0 +1,193 @@
+package com.budgetbuddy.config;
+
+import com.budgetbuddy.util.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gives each controller group its own concurrency limit, so an expensive class of request (a long history
+ * sorted by amount, the dashboard's year scan) can't take every request thread and pooled connection away
+ * from cheap ones like GET /api/profile. Over-limit requests get a 503 with Retry-After.
+ * Also turns a statement that hit its query timeout into a 503 rather than a 500. Both kinds of 503 are
+ * counted per endpoint, tagged like Boot's http.server.requests.
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    // Path prefix -> group; prefixes match whole path segments
+    private static final Map<String, String> GROUPS = new LinkedHashMap<>();
+    static {
+        GROUPS.put("/api/auth", "auth");
+        GROUPS.put("/api/transactions", "transactions");
+        GROUPS.put("/api/dashboard", "dashboard");
+        GROUPS.put("/api/accounts", "accounts");
+        GROUPS.put("/api/profile", "profile");
+    }
+
+    private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+    private final MeterRegistry registry;
+    // Only asked for the path pattern of a rejected request, which never reaches DispatcherServlet
+    private final HandlerMapping handlerMapping;
+
+    public BulkheadFilter(BulkheadProperties properties, MeterRegistry registry, HandlerMapping handlerMapping) {
+        this.registry = registry;
+        this.handlerMapping = handlerMapping;
+        if (!properties.isEnabled()) {
+            return;
+        }
+        properties.getMaxConcurrent().forEach((group, maxConcurrent) -> {
+            if (!GROUPS.containsValue(group)) {
+                throw new IllegalArgumentException("Unknown bulkhead group '" + group + "', expected one of " + GROUPS.values());
+            }
+            if (maxConcurrent == null || maxConcurrent <= 0) {
+                return;
+            }
+            Bulkhead bulkhead = new Bulkhead(maxConcurrent, properties.getMaxWait());
+            bulkheads.put(group, bulkhead);
+
+            Gauge.builder("http.bulkhead.active", bulkhead, Bulkhead::getActive).tag("group", group).register(registry);
+        });
+    }
+
+    /** The bulkhead group a path belongs to, or null for paths outside the API controllers */
+    static String groupOf(String path) {
+        for (Map.Entry<String, String> entry : GROUPS.entrySet()) {
+            String prefix = entry.getKey();
+            if (path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String group = groupOf(request.getRequestURI().substring(request.getContextPath().length()));
+        Bulkhead bulkhead = group != null ? bulkheads.get(group) : null;
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            endpointCounter("http.bulkhead.rejected", request, group, resolvePattern(request)).increment();
+            unavailable(response, "Too many concurrent requests, please retry shortly");
+            return;
+        }
+
+        boolean releaseOnReturn = bulkhead != null;
+        try {
+            filterChain.doFilter(request, response);
+            if (bulkhead != null && request.isAsyncStarted()) {
+                // Streamed responses (export) keep their slot until the body has been written
+                request.getAsyncContext().addListener(new ReleasingListener(bulkhead));
+                releaseOnReturn = false;
+            }
+        } catch (ServletException | RuntimeException e) {
+            if (!isQueryTimeout(e) || response.isCommitted()) {
+                throw e;
+            }
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            endpointCounter("http.query.timeouts", request, group, pattern).increment();
+            response.resetBuffer();
+            unavailable(response, "The request took too long, please retry shortly");
+        } finally {
+            if (releaseOnReturn) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    // Tagged with the handler's path pattern, so ids in the URL don't multiply the series
+    private Counter endpointCounter(String name, HttpServletRequest request, String group, Object pattern) {
+        return Counter.builder(name)
+                .tag("group", group != null ? group : "other")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(registry);
+    }
+
+    // The pattern DispatcherServlet would have matched; the lookup records it on the request as it would there
+    private Object resolvePattern(HttpServletRequest request) {
+        try {
+            ServletRequestPathUtils.parseAndCache(request);
+            handlerMapping.getHandler(request);
+        } catch (Exception e) {
+            // No handler (or the wrong method for one): counted as UNKNOWN, like a 404 in http.server.requests
+        }
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+
+    // DispatcherServlet wraps handler exceptions, so look through the causes
+    private static boolean isQueryTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof QueryTimeoutException
+                    || t instanceof jakarta.persistence.QueryTimeoutException
+                    || t instanceof org.hibernate.QueryTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void unavailable(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+    /** Releases the permit once however the async request ends; timeout and error are followed by complete */
+    private static final class ReleasingListener implements AsyncListener {
+
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingListener(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Only fired for a second startAsync on the same request; the slot is still held
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    // Maps to 'bulkhead.enabled'; off by default, so every request gets through (statement timeouts still apply).
+    // Turn it on once the limits below are sized for the deployment's request threads and connection pool.
+    private boolean enabled = false;
+
+    // Maps to 'bulkhead.max-wait'; how long a request may wait for a free slot in its group before a 503
+    private Duration maxWait = Duration.ofMillis(100);
+
+    // Maps to 'bulkhead.max-concurrent.<group>' for auth, transactions, dashboard, accounts and profile.
+    // A group left out here, or set to 0, is not limited. Dashboard is the lowest since one summary can hold
+    // several connections at once while its queries run in parallel.
+    private Map<String, Integer> maxConcurrent = new LinkedHashMap<>(Map.of(
+            "auth", 16,
+            "transactions", 8,
+            "dashboard", 4,
+            "accounts", 8,
+            "profile", 8));
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public Map<String, Integer> getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(Map<String, Integer> maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+}
@@ -0,0 +1,78 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "dashboard.breaker")
+public class DashboardBreakerProperties {
+
+    // Maps to 'dashboard.breaker.enabled'; false always runs the dashboard queries
+    private boolean enabled = true;
+
+    // Maps to 'dashboard.breaker.window-size'; the failure rate is taken over this many recent computations
+    private int windowSize = 20;
+
+    // Maps to 'dashboard.breaker.minimum-calls'; the breaker never trips on fewer recorded computations
+    private int minimumCalls = 10;
+
+    // Maps to 'dashboard.breaker.failure-rate-threshold', in percent
+    private int failureRateThreshold = 50;
+
+    // Maps to 'dashboard.breaker.slow-call-threshold'; a computation slower than this counts as a failure
+    private Duration slowCallThreshold = Duration.ofSeconds(2);
+
+    // Maps to 'dashboard.breaker.open-duration'; how long to fail fast before letting one trial computation through
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public Duration getSlowCallThreshold() {
+        return slowCallThreshold;
+    }
+
+    public void setSlowCallThreshold(Duration slowCallThreshold) {
+        this.slowCallThreshold = slowCallThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+}
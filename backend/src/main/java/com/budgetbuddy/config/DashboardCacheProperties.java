@@ -0,0 +1,68 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "dashboard.cache")
+public class DashboardCacheProperties {
+
+    // Maps to 'dashboard.cache.enabled'
+    private boolean enabled = true;
+
+    // Maps to 'dashboard.cache.max-entries' (one entry per user)
+    private int maxEntries = 1000;
+
+    // Maps to 'dashboard.cache.ttl', e.g. 60s or 5m
+    private Duration ttl = Duration.ofSeconds(60);
+
+    // Maps to 'dashboard.cache.stale-ttl'; how long past the TTL a summary may still be served, marked stale,
+    // while it is refreshed in the background or the database is failing
+    private Duration staleTtl = Duration.ofMinutes(10);
+
+    // Maps to 'dashboard.cache.refresh-threads'; background refreshes of stale summaries
+    private int refreshThreads = 2;
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getStaleTtl() {
+        return staleTtl;
+    }
+
+    public void setStaleTtl(Duration staleTtl) {
+        this.staleTtl = staleTtl;
+    }
+
+    public int getRefreshThreads() {
+        return refreshThreads;
+    }
+
+    public void setRefreshThreads(int refreshThreads) {
+        this.refreshThreads = refreshThreads;
+    }
+}
@@ -0,0 +1,56 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "dashboard.parallel")
+public class DashboardParallelProperties {
+
+    // Maps to 'dashboard.parallel.enabled'; false runs the dashboard queries one after another
+    private boolean enabled = true;
+
+    // Maps to 'dashboard.parallel.threads'
+    private int threads = 8;
+
+    // Maps to 'dashboard.parallel.queue-capacity'; when full, requests fall back to sequential
+    private int queueCapacity = 200;
+
+    // Maps to 'dashboard.parallel.timeout'; deadline for all four queries of one request
+    private Duration timeout = Duration.ofSeconds(5);
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
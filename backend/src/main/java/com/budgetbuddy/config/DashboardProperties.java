@@ -0,0 +1,25 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// Settings of the summary itself; cache, breaker and parallel computation have their own classes
+@Component
+@ConfigurationProperties(prefix = "dashboard")
+public class DashboardProperties {
+
+    // Maps to 'dashboard.recent-transactions'; rows in the summary's recent activity list
+    private int recentTransactions = 10;
+
+    // Getters and setters
+    public int getRecentTransactions() {
+        return recentTransactions;
+    }
+
+    public void setRecentTransactions(int recentTransactions) {
+        if (recentTransactions < 1) {
+            throw new IllegalArgumentException("dashboard.recent-transactions must be at least 1");
+        }
+        this.recentTransactions = recentTransactions;
+    }
+}
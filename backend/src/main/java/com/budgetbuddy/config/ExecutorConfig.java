@@ -0,0 +1,65 @@
+package com.budgetbuddy.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    /** Bounded pool for the dashboard's concurrent sub-queries; rejects instead of queueing forever */
+    @Bean(name = "dashboardExecutor", destroyMethod = "shutdown")
+    public ExecutorService dashboardExecutor(DashboardParallelProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                namedThreads("dashboard-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Background refreshes of stale dashboard summaries; never the dashboardExecutor, whose tasks a refresh waits on */
+    @Bean(name = "dashboardRefreshExecutor", destroyMethod = "shutdown")
+    public ExecutorService dashboardRefreshExecutor(DashboardCacheProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.getRefreshThreads(), properties.getRefreshThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getMaxEntries()),
+                namedThreads("dashboard-refresh-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Separate pool for BCrypt so a login storm can't take over the request threads */
+    @Bean(name = "passwordHashExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashExecutor(PasswordHashingProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                namedThreads("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Single background thread for token housekeeping: revocation filter reloads and expired-row cleanup */
+    @Bean(name = "tokenMaintenanceScheduler", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService tokenMaintenanceScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(namedThreads("token-maintenance-"));
+    }
+
+    static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
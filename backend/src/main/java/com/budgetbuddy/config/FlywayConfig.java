@@ -0,0 +1,57 @@
+package com.budgetbuddy.config;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+    /**
+     * Applies db/migrations at startup. The scripts are PostgreSQL-only (enum types, INCLUDE indexes),
+     * so other databases, such as the in-memory H2 used by tests, keep their entity-generated schema.
+     */
+    @Bean
+    public FlywayMigrationStrategy postgresMigrations() {
+        return flyway -> {
+            if (isPostgres(flyway)) {
+                flyway.migrate();
+            } else {
+                logger.info("Skipping Flyway migrations: not a PostgreSQL database");
+            }
+        };
+    }
+
+    /**
+     * With Flyway on the classpath Boot no longer generates the schema of an embedded database, and the
+     * migrations above don't run there either; restore Boot's create-drop default unless ddl-auto is set.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer embeddedSchemaGeneration(DataSource dataSource) {
+        return properties -> {
+            if (EmbeddedDatabaseConnection.isEmbedded(dataSource)) {
+                properties.putIfAbsent(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+            }
+        };
+    }
+
+    private static boolean isPostgres(Flyway flyway) {
+        try (Connection connection = flyway.getConfiguration().getDataSource().getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not inspect the database before migrating", e);
+        }
+    }
+}
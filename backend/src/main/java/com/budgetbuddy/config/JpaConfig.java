@@ -0,0 +1,96 @@
+package com.budgetbuddy.config;
+
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.EternalExpiryPolicy;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class JpaConfig {
+
+    /** Second-level cache regions; the entities and repositories refer to these names */
+    public static final String ACCOUNTS_REGION = "accounts";
+    public static final String USERS_REGION = "users";
+    public static final String ACCOUNTS_BY_USER_REGION = "accounts-by-user";
+
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * JDBC batching for multi-row writes. Anything set under spring.jpa.properties.hibernate.* wins.
+     * Insert/update ordering groups statements by entity so a mixed flush still batches.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatching(@Value("${jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    /**
+     * Local (in-process Caffeine) second-level cache for accounts, users and the accounts-by-user query.
+     * Hibernate keeps it in step with its own writes; a bulk HQL update evicts the whole region, so balance
+     * postings go through AccountBalanceRepository, which evicts only the adjusted row.
+     * Writes that bypass Hibernate (plain JDBC) are not seen, so account and user rows must not be written that way.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(SecondLevelCacheProperties cache) {
+        return properties -> {
+            if (!cache.isEnabled()) {
+                properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, false);
+                return;
+            }
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+            // Cached query results hold ids only and take the rows from the entity regions, so evicting one
+            // account is enough for accounts-by-user to see its new balance
+            properties.putIfAbsent(AvailableSettings.QUERY_CACHE_LAYOUT, CacheLayout.SHALLOW);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, cache.isStatistics());
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager(cache));
+        };
+    }
+
+    // A manager of its own per session factory, which closes it on shutdown. The provider's default manager would
+    // be shared by every application context in the JVM (tests start several, each with its own database), and
+    // one context's cached rows would be served for another's ids.
+    private static CacheManager cacheManager(SecondLevelCacheProperties cache) {
+        CachingProvider provider = Caching.getCachingProvider(CAFFEINE_PROVIDER);
+        CacheManager manager = provider.getCacheManager(
+                URI.create("budgetbuddy-" + UUID.randomUUID()), JpaConfig.class.getClassLoader());
+        createRegion(manager, ACCOUNTS_REGION, cache.getEntityTtl());
+        createRegion(manager, USERS_REGION, cache.getEntityTtl());
+        createRegion(manager, ACCOUNTS_BY_USER_REGION, cache.getQueryTtl());
+        createRegion(manager, DEFAULT_QUERY_REGION, cache.getQueryTtl());
+        // Update timestamps decide whether a cached query result is stale; they must outlive every query entry
+        createRegion(manager, TIMESTAMPS_REGION, null);
+        return manager;
+    }
+
+    private static void createRegion(CacheManager manager, String name, Duration ttl) {
+        MutableConfiguration<Object, Object> config = new MutableConfiguration<>()
+                .setStatisticsEnabled(true)
+                .setExpiryPolicyFactory(ttl == null
+                        ? EternalExpiryPolicy.factoryOf()
+                        : CreatedExpiryPolicy.factoryOf(new javax.cache.expiry.Duration(TimeUnit.MILLISECONDS, ttl.toMillis())));
+        manager.createCache(name, config);
+    }
+}
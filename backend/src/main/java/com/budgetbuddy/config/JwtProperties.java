@@ -3,6 +3,8 @@ package com.budgetbuddy.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
@@ -10,6 +12,28 @@ public class JwtProperties {
     // This field maps to 'jwt.secret'
     private String secret;
 
+    // Maps to 'jwt.token-cache-max-entries'; verified tokens remembered to skip re-verification, 0 disables
+    private int tokenCacheMaxEntries = 10_000;
+
+    // Maps to 'jwt.access-token-ttl'; kept short because refresh is cheap and revocation only needs to outlive it
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    // Maps to 'jwt.refresh-token-ttl'
+    private Duration refreshTokenTtl = Duration.ofDays(30);
+
+    // Maps to 'jwt.refresh-reuse-grace'; a rotated refresh token presented again within this window is refused
+    // without revoking the user's sessions, since several tabs of one browser can race to refresh with it
+    private Duration refreshReuseGrace = Duration.ofSeconds(30);
+
+    // Maps to 'jwt.revocation-expected-entries'; access tokens revoked within one access-token-ttl
+    private int revocationExpectedEntries = 100_000;
+
+    // Maps to 'jwt.revocation-false-positive-rate'; share of live tokens that still need a database check
+    private double revocationFalsePositiveRate = 0.01;
+
+    // Maps to 'jwt.revocation-reload-interval'; picks up revocations made by other instances and drops expired ones
+    private Duration revocationReloadInterval = Duration.ofMinutes(1);
+
     // Getter and Setter
     public String getSecret() {
         return secret;
@@ -18,4 +42,60 @@ public class JwtProperties {
     public void setSecret(String secret) {
         this.secret = secret;
     }
-}
\ No newline at end of file
+
+    public int getTokenCacheMaxEntries() {
+        return tokenCacheMaxEntries;
+    }
+
+    public void setTokenCacheMaxEntries(int tokenCacheMaxEntries) {
+        this.tokenCacheMaxEntries = tokenCacheMaxEntries;
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    public void setAccessTokenTtl(Duration accessTokenTtl) {
+        this.accessTokenTtl = accessTokenTtl;
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
+    public void setRefreshTokenTtl(Duration refreshTokenTtl) {
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    public Duration getRefreshReuseGrace() {
+        return refreshReuseGrace;
+    }
+
+    public void setRefreshReuseGrace(Duration refreshReuseGrace) {
+        this.refreshReuseGrace = refreshReuseGrace;
+    }
+
+    public int getRevocationExpectedEntries() {
+        return revocationExpectedEntries;
+    }
+
+    public void setRevocationExpectedEntries(int revocationExpectedEntries) {
+        this.revocationExpectedEntries = revocationExpectedEntries;
+    }
+
+    public double getRevocationFalsePositiveRate() {
+        return revocationFalsePositiveRate;
+    }
+
+    public void setRevocationFalsePositiveRate(double revocationFalsePositiveRate) {
+        this.revocationFalsePositiveRate = revocationFalsePositiveRate;
+    }
+
+    public Duration getRevocationReloadInterval() {
+        return revocationReloadInterval;
+    }
+
+    public void setRevocationReloadInterval(Duration revocationReloadInterval) {
+        this.revocationReloadInterval = revocationReloadInterval;
+    }
+}
@@ -0,0 +1,57 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.password")
+public class PasswordHashingProperties {
+
+    // Maps to 'auth.password.bcrypt-strength' (log2 rounds); stored hashes with another cost are rehashed on login
+    private int bcryptStrength = 10;
+
+    // Maps to 'auth.password.threads'; hashing is CPU bound, so more threads than cores only adds queueing
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Maps to 'auth.password.queue-capacity'; when full, requests get 503 instead of waiting
+    private int queueCapacity = 100;
+
+    // Maps to 'auth.password.timeout'; longest a request thread is blocked waiting for its hash, queueing included.
+    // A cost-10 hash takes well under 100ms, so a second only runs out when the queue is far behind.
+    private Duration timeout = Duration.ofSeconds(1);
+
+    // Getters and setters
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
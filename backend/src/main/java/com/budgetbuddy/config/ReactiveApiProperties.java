@@ -0,0 +1,76 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "reactive-api")
+public class ReactiveApiProperties {
+
+    // Maps to 'reactive-api.enabled'; starts the non-blocking read server next to the servlet one
+    private boolean enabled = false;
+
+    // Maps to 'reactive-api.port'; 0 picks a free port
+    private int port = 8081;
+
+    // Maps to 'reactive-api.url', e.g. r2dbc:postgresql://localhost:5432/budgetbuddy
+    private String url;
+
+    // Maps to 'reactive-api.username'
+    private String username;
+
+    // Maps to 'reactive-api.password'
+    private String password;
+
+    // Maps to 'reactive-api.max-connections'; R2DBC connections are separate from the Hikari pool
+    private int maxConnections = 10;
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+}
@@ -0,0 +1,59 @@
+package com.budgetbuddy.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactor Netty server for the reactive read API. A handful of event-loop threads serve every connection;
+ * a response is written only as fast as the client reads it, and rows are pulled from R2DBC at that pace.
+ */
+public class ReactiveApiServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveApiServer.class);
+
+    private final int port;
+    private final HttpHandler handler;
+    private volatile DisposableServer server;
+
+    public ReactiveApiServer(int port, HttpHandler handler) {
+        this.port = port;
+        this.handler = handler;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(handler))
+                .bindNow();
+        logger.info("Reactive read API started on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** The bound port, which differs from reactive-api.port when that is 0 */
+    public int getPort() {
+        DisposableServer running = server;
+        if (running == null) {
+            throw new IllegalStateException("Reactive read API is not running");
+        }
+        return running.port();
+    }
+}
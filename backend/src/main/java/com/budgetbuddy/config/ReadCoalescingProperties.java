@@ -0,0 +1,21 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "read-coalescing")
+public class ReadCoalescingProperties {
+
+    // Maps to 'read-coalescing.enabled'; false runs every dashboard and list read on its own
+    private boolean enabled = true;
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
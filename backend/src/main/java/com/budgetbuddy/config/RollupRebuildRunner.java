@@ -0,0 +1,33 @@
+package com.budgetbuddy.config;
+
+import com.budgetbuddy.service.RollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the monthly rollup table when the app is started with --rebuild-rollups,
+ * e.g. java -jar budgetbuddy.jar --rebuild-rollups
+ * FinanceApplication starts that run without a web server and exits when this runner returns.
+ */
+@Component
+public class RollupRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupRebuildRunner.class);
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("rebuild-rollups")) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int rows = rollupService.rebuildAll();
+        logger.info("Rebuilt {} monthly rollup rows in {} ms", rows, System.currentTimeMillis() - start);
+    }
+}
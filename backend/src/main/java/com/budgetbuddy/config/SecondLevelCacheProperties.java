@@ -0,0 +1,56 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "jpa.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    // Maps to 'jpa.second-level-cache.enabled'; false turns off entity and query caching
+    private boolean enabled = true;
+
+    // Maps to 'jpa.second-level-cache.entity-ttl' (the accounts and users regions)
+    private Duration entityTtl = Duration.ofMinutes(10);
+
+    // Maps to 'jpa.second-level-cache.query-ttl' (cached query results, e.g. accounts by user)
+    private Duration queryTtl = Duration.ofMinutes(5);
+
+    // Maps to 'jpa.second-level-cache.statistics'; per-region hit/miss/put counts, exported as hibernate.* metrics
+    private boolean statistics = true;
+
+    // Getters and setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getEntityTtl() {
+        return entityTtl;
+    }
+
+    public void setEntityTtl(Duration entityTtl) {
+        this.entityTtl = entityTtl;
+    }
+
+    public Duration getQueryTtl() {
+        return queryTtl;
+    }
+
+    public void setQueryTtl(Duration queryTtl) {
+        this.queryTtl = queryTtl;
+    }
+
+    public boolean isStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(boolean statistics) {
+        this.statistics = statistics;
+    }
+}
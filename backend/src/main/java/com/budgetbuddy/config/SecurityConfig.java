@@ -1,11 +1,14 @@
 package com.budgetbuddy.config;
 
+import com.budgetbuddy.service.TokenRevocationService;
 import com.budgetbuddy.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,6 +26,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 import java.util.List;
@@ -34,10 +38,13 @@ public class SecurityConfig {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     /** Password encoder bean */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        return new BCryptPasswordEncoder(properties.getBcryptStrength());
     }
 
     /** CORS configuration for frontend communication */
@@ -62,13 +69,16 @@ public class SecurityConfig {
 
     /** Main Spring Security configuration */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthRateLimitProperties rateLimit,
+                                                   BulkheadProperties bulkheads, MeterRegistry registry,
+                                                   @Qualifier("requestMappingHandlerMapping") HandlerMapping controllers)
+            throws Exception {
         http
             .cors(Customizer.withDefaults())
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/logout").permitAll()
+                .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/refresh", "/api/auth/logout").permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -76,6 +86,14 @@ public class SecurityConfig {
             )
             .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
 
+        // Not a bean, so Boot won't also register it as a servlet filter; it only runs inside this chain
+        if (rateLimit.isEnabled()) {
+            http.addFilterBefore(new AuthRateLimitFilter(rateLimit, registry), UsernamePasswordAuthenticationFilter.class);
+        }
+        // Added last so throttled logins never take a bulkhead slot; installed even with bulkheads
+        // disabled, since it also answers query timeouts
+        http.addFilterBefore(new BulkheadFilter(bulkheads, registry, controllers), UsernamePasswordAuthenticationFilter.class);
+
         return http.build();
     }
 
@@ -91,25 +109,25 @@ public class SecurityConfig {
         protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
                 throws ServletException, IOException {
             String header = request.getHeader("Authorization");
-            String jwtToken = null;
-            String username = null;
+            UserPrincipal user = null;
 
             if (header != null && header.startsWith("Bearer ")) {
-                jwtToken = header.substring(7);
+                // One verification per token (and none for recently seen ones); null means invalid or expired
                 try {
-                    if (jwtUtil.validateToken(jwtToken)) {
-                        username = jwtUtil.getEmailFromToken(jwtToken);
-                    }
-                } catch (IllegalArgumentException e) {
-                    logger.warn("Unable to get JWT Token");
+                    user = jwtUtil.authenticate(header.substring(7));
                 } catch (Exception e) {
                     logger.error("JWT Token cannot be trusted", e);
                 }
             }
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Bloom filter first; only a possible match costs a database lookup
+            if (user != null && tokenRevocationService.isRevoked(user.tokenId())) {
+                user = null;
+            }
+
+            if (user != null && user.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(username, null, null);
+                        new UsernamePasswordAuthenticationToken(user, null, null);
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
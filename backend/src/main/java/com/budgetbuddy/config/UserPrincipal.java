@@ -0,0 +1,17 @@
+package com.budgetbuddy.config;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Authenticated user as published by JwtAuthenticationFilter.
+ * getName() stays the email so existing principal.getName() callers are unaffected; userId comes from the token.
+ * tokenId (the jti) and expiresAt identify the access token itself so it can be revoked.
+ */
+public record UserPrincipal(Long userId, String email, String tokenId, Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,25 @@
+package com.budgetbuddy.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stops startup when spring.threads.virtual.enabled=true on a JDK below 21. Boot only switches to virtual
+ * threads on 21+, so there the property would be ignored and requests would quietly stay on Tomcat's
+ * platform-thread pool, sized as if they didn't.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsCheck {
+
+    public VirtualThreadsCheck() {
+        requireJdk(Runtime.version().feature());
+    }
+
+    static void requireJdk(int feature) {
+        if (feature < 21) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true needs Java 21 or later, but this is Java "
+                    + feature + "; unset it or run on a newer JDK");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.budgetbuddy.controller;
 import com.budgetbuddy.dto.AccountDTO;
 import com.budgetbuddy.entity.AccountEntity;
 import com.budgetbuddy.service.AccountService;
+import com.budgetbuddy.service.CurrentUserResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,11 +18,14 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private CurrentUserResolver currentUser;
+
 
     @GetMapping
     public ResponseEntity<?> getAccounts(Principal principal) {
         try {
-            return new ResponseEntity<>(accountService.getAccountsByUsername(principal.getName()), HttpStatus.OK);
+            return new ResponseEntity<>(accountService.getAccountsByUserId(currentUser.userId(principal)), HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("An error occurred while fetching accounts", HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -31,7 +35,7 @@ public class AccountController {
     @PostMapping
     public ResponseEntity<?> createAccount(@RequestBody AccountDTO accountDTO, Principal principal) {
         try {
-            AccountEntity createdAccount = accountService.createAccount(principal.getName(), accountDTO);
+            AccountEntity createdAccount = accountService.createAccount(currentUser.userId(principal), accountDTO);
             return new ResponseEntity<>("Account created successfully", HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -44,7 +48,7 @@ public class AccountController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateAccount(@PathVariable Long id, @RequestBody AccountDTO accountDTO, Principal principal) {
         try {
-            AccountEntity updatedAccount = accountService.updateAccount(principal.getName(), id, accountDTO);
+            AccountEntity updatedAccount = accountService.updateAccount(currentUser.userId(principal), id, accountDTO);
             return new ResponseEntity<>("Account updated successfully", HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -57,7 +61,7 @@ public class AccountController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteAccount(@PathVariable Long id, Principal principal) {
         try {
-            accountService.deleteAccount(principal.getName(), id);
+            accountService.deleteAccount(currentUser.userId(principal), id);
             return new ResponseEntity<>("Account deleted successfully", HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
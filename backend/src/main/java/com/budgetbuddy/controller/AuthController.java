@@ -1,13 +1,19 @@
 package com.budgetbuddy.controller;
 
+import com.budgetbuddy.config.UserPrincipal;
 import com.budgetbuddy.dto.UserDTO;
 // import com.budgetbuddy.entity.UserEntity;
 import com.budgetbuddy.service.AuthService;
+import com.budgetbuddy.service.IssuedTokens;
+import com.budgetbuddy.service.ServiceBusyException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,6 +31,8 @@ public class AuthController {
             return new ResponseEntity<>("User registered successfully", HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (ServiceBusyException e) {
+            return busy(e);
         } catch (Exception e) {
             return new ResponseEntity<>("An error occurred during registration", HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -33,31 +41,82 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<?> loginUser(@RequestBody UserDTO userDTO) {
         try {
-            String token = authService.loginUser(userDTO.getEmail(), userDTO.getPassword());
-            return new ResponseEntity<>(new LoginResponse(token), HttpStatus.OK);
+            IssuedTokens tokens = authService.loginUser(userDTO.getEmail(), userDTO.getPassword());
+            return new ResponseEntity<>(new LoginResponse(tokens), HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.UNAUTHORIZED);
+        } catch (ServiceBusyException e) {
+            return busy(e);
         } catch (Exception e) {
             return new ResponseEntity<>("An error occurred during login", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest request) {
+        try {
+            IssuedTokens tokens = authService.refresh(request.getRefreshToken());
+            return new ResponseEntity<>(new LoginResponse(tokens), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.UNAUTHORIZED);
+        } catch (Exception e) {
+            return new ResponseEntity<>("An error occurred while refreshing the session", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Revokes the presented access token and refresh token; still succeeds with neither
     @PostMapping("/logout")
-    public ResponseEntity<?> logoutUser() {
-        // JWT is stateless - logout is handled client-side by discarding the token
-        return new ResponseEntity<>("Logged out successfully", HttpStatus.OK);
+    public ResponseEntity<?> logoutUser(@RequestBody(required = false) RefreshRequest request,
+                                        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                        Authentication authentication) {
+        try {
+            UserPrincipal principal = authentication != null && authentication.getPrincipal() instanceof UserPrincipal p ? p : null;
+            String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+            authService.logout(principal, accessToken, request != null ? request.getRefreshToken() : null);
+            return new ResponseEntity<>("Logged out successfully", HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>("An error occurred during logout", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Password hashing is saturated; tell the client when to come back instead of holding the connection
+    static ResponseEntity<?> busy(ServiceBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
     }
 
     // Inner class for login response
     private static class LoginResponse {
         private final String token;
+        private final String refreshToken;
+        private final long expiresIn;
 
-        public LoginResponse(String token) {
-            this.token = token;
+        public LoginResponse(IssuedTokens tokens) {
+            this.token = tokens.accessToken();
+            this.refreshToken = tokens.refreshToken();
+            this.expiresIn = tokens.expiresInSeconds();
         }
 
         public String getToken() {
             return this.token;
         }
+
+        public String getRefreshToken() {
+            return this.refreshToken;
+        }
+
+        // Seconds until the access token expires
+        public long getExpiresIn() {
+            return this.expiresIn;
+        }
+    }
+
+    public static class RefreshRequest {
+        private String refreshToken;
+
+        // Getter and setter
+        public String getRefreshToken() { return refreshToken; }
+        public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
     }
 }
\ No newline at end of file
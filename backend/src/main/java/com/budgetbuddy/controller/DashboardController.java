@@ -1,7 +1,9 @@
 package com.budgetbuddy.controller;
 
 import com.budgetbuddy.dto.DashboardSummaryDTO;
+import com.budgetbuddy.service.CurrentUserResolver;
 import com.budgetbuddy.service.DashboardService;
+import com.budgetbuddy.service.ServiceBusyException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,9 +20,17 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private CurrentUserResolver currentUser;
+
+    // A stale summary (stale=true, asOf set) is still a 200; 503 only when there is nothing to fall back on
     @GetMapping("/summary")
-    public ResponseEntity<DashboardSummaryDTO> getDashboardSummary(Principal principal) {
-        DashboardSummaryDTO summary = dashboardService.getDashboardSummary(principal.getName());
-        return new ResponseEntity<>(summary, HttpStatus.OK);
+    public ResponseEntity<?> getDashboardSummary(Principal principal) {
+        try {
+            DashboardSummaryDTO summary = dashboardService.getDashboardSummary(currentUser.userId(principal));
+            return new ResponseEntity<>(summary, HttpStatus.OK);
+        } catch (ServiceBusyException e) {
+            return AuthController.busy(e);
+        }
     }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.budgetbuddy.controller;
 
 import com.budgetbuddy.dto.UserDTO;
 import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.service.CurrentUserResolver;
 import com.budgetbuddy.service.ProfileService;
+import com.budgetbuddy.service.ServiceBusyException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,11 +19,14 @@ public class ProfileController {
     @Autowired
     private ProfileService profileService;
 
+    @Autowired
+    private CurrentUserResolver currentUser;
+
     // GET /api/profile - Retrieve current user's profile (excluding password)
     @GetMapping
     public ResponseEntity<UserDTO> getProfile(Principal principal) {
         try {
-            UserEntity user = profileService.getUserByEmail(principal.getName());
+            UserEntity user = profileService.getUser(currentUser.userId(principal));
             UserDTO userDTO = new UserDTO();
             userDTO.setFirstName(user.getFirstName());
             userDTO.setLastName(user.getLastName());
@@ -36,7 +41,7 @@ public class ProfileController {
     @PutMapping("/name")
     public ResponseEntity<?> updateName(@RequestBody UpdateNameDTO updateNameDTO, Principal principal) {
         try {
-            profileService.updateName(principal.getName(), updateNameDTO.getFirstName(), updateNameDTO.getLastName());
+            profileService.updateName(currentUser.userId(principal), updateNameDTO.getFirstName(), updateNameDTO.getLastName());
             return new ResponseEntity<>("Name updated successfully", HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -49,7 +54,7 @@ public class ProfileController {
     @PutMapping("/email")
     public ResponseEntity<?> updateEmail(@RequestBody UpdateEmailDTO updateEmailDTO, Principal principal) {
         try {
-            profileService.updateEmail(principal.getName(), updateEmailDTO.getEmail());
+            profileService.updateEmail(currentUser.userId(principal), updateEmailDTO.getEmail());
             return new ResponseEntity<>("Email updated successfully", HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -62,10 +67,12 @@ public class ProfileController {
     @PutMapping("/password")
     public ResponseEntity<?> updatePassword(@RequestBody UpdatePasswordDTO updatePasswordDTO, Principal principal) {
         try {
-            profileService.updatePassword(principal, updatePasswordDTO.getCurrentPassword(), updatePasswordDTO.getNewPassword());
+            profileService.updatePassword(currentUser.userId(principal), updatePasswordDTO.getCurrentPassword(), updatePasswordDTO.getNewPassword());
             return new ResponseEntity<>("Password updated successfully", HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (ServiceBusyException e) {
+            return AuthController.busy(e);
         } catch (Exception e) {
             return new ResponseEntity<>("An error occurred while updating password", HttpStatus.INTERNAL_SERVER_ERROR);
         }
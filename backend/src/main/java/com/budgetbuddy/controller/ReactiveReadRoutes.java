@@ -0,0 +1,126 @@
+package com.budgetbuddy.controller;
+
+import com.budgetbuddy.config.UserPrincipal;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.service.ReactiveReadService;
+import com.budgetbuddy.service.ServiceBusyException;
+import com.budgetbuddy.service.TokenRevocationService;
+import com.budgetbuddy.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive read API, served by ReactiveApiServer on its own port alongside the MVC controllers:
+ *
+ *   GET /api/transactions       - same parameters as TransactionController's offset mode (category, sortBy,
+ *                                 page, limit); rows are streamed as application/x-ndjson, one TransactionDTO per line
+ *   GET /api/dashboard/summary  - same body as DashboardController, from the same cache and breaker
+ *
+ * Authentication is the same Bearer JWT as SecurityConfig, checked here because Spring Security's servlet
+ * filter chain doesn't run on this server.
+ */
+@Component
+@ConditionalOnProperty(prefix = "reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveReadRoutes {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadRoutes.class);
+    private static final String USER_ID = ReactiveReadRoutes.class.getName() + ".userId";
+
+    private final ReactiveReadService readService;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+
+    public ReactiveReadRoutes(ReactiveReadService readService, JwtUtil jwtUtil,
+                              TokenRevocationService tokenRevocationService) {
+        this.readService = readService;
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    public RouterFunction<ServerResponse> router() {
+        return RouterFunctions.route()
+                .GET("/api/transactions", this::getTransactions)
+                .GET("/api/dashboard/summary", this::getDashboardSummary)
+                .filter(authenticated())
+                .build();
+    }
+
+    private Mono<ServerResponse> getTransactions(ServerRequest request) {
+        Flux<TransactionDTO> rows;
+        try {
+            rows = readService.streamTransactions(userId(request),
+                    request.queryParam("category").orElse(null),
+                    request.queryParam("sortBy").orElse("date_desc"),
+                    Integer.parseInt(request.queryParam("page").orElse("0")),
+                    Integer.parseInt(request.queryParam("limit").orElse("20")));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException for page/limit
+            return ServerResponse.badRequest().bodyValue(String.valueOf(e.getMessage()));
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(rows, TransactionDTO.class);
+    }
+
+    // Timeouts and an open breaker get 503 with Retry-After, as from DashboardController
+    private Mono<ServerResponse> getDashboardSummary(ServerRequest request) {
+        return readService.getDashboardSummary(userId(request))
+                .flatMap(summary -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(summary))
+                .onErrorResume(ServiceBusyException.class, e -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .bodyValue(e.getMessage()));
+    }
+
+    private static Long userId(ServerRequest request) {
+        return (Long) request.attributes().get(USER_ID);
+    }
+
+    // Unauthenticated requests get 403, as from the servlet chain
+    private HandlerFilterFunction<ServerResponse, ServerResponse> authenticated() {
+        return (request, next) -> authenticate(request)
+                .flatMap(userId -> {
+                    request.attributes().put(USER_ID, userId);
+                    return next.handle(request);
+                })
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.FORBIDDEN).build()));
+    }
+
+    private Mono<Long> authenticate(ServerRequest request) {
+        String header = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith("Bearer ")) {
+            return Mono.empty();
+        }
+
+        UserPrincipal user;
+        try {
+            user = jwtUtil.authenticate(header.substring(7));
+        } catch (Exception e) {
+            logger.error("JWT Token cannot be trusted", e);
+            return Mono.empty();
+        }
+        // Tokens without a uid claim would need a blocking email lookup; they're refused here
+        if (user == null || user.userId() == null) {
+            return Mono.empty();
+        }
+
+        if (!tokenRevocationService.mightBeRevoked(user.tokenId())) {
+            return Mono.just(user.userId());
+        }
+        // Bloom filter hit: the exact check is a JDBC lookup, so it runs off the event loop
+        return Mono.fromCallable(() -> tokenRevocationService.isRevoked(user.tokenId()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(revoked -> !revoked)
+                .map(revoked -> user.userId());
+    }
+}
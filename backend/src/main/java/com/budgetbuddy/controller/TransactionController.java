@@ -1,15 +1,29 @@
 package com.budgetbuddy.controller;
 
+import com.budgetbuddy.dto.CursorPageDTO;
+import com.budgetbuddy.dto.ImportResultDTO;
 import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.dto.TransactionPageDTO;
 import com.budgetbuddy.entity.TransactionEntity;
+import com.budgetbuddy.repository.RecentTransactionView;
+import com.budgetbuddy.service.CurrentUserResolver;
+import com.budgetbuddy.service.ServiceBusyException;
+import com.budgetbuddy.service.TransactionExportService;
+import com.budgetbuddy.service.TransactionImportService;
 import com.budgetbuddy.service.TransactionService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/transactions")
@@ -18,26 +32,128 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private CurrentUserResolver currentUser;
+
     // GET /api/transactions - with filtering, sorting, pagination
+    // paging=cursor switches to keyset pagination: pass back nextCursor/prevCursor as 'cursor', no totals are computed
     @GetMapping
-    public ResponseEntity<Page<TransactionEntity>> getTransactions(
+    public ResponseEntity<?> getTransactions(
             Principal principal,
             @RequestParam(required = false) String category,
             @RequestParam(required = false, defaultValue = "date_desc") String sortBy,
             @RequestParam(required = false, defaultValue = "0") int page,
-            @RequestParam(required = false, defaultValue = "20") int limit) {
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestParam(required = false, defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor) {
+
+        if (paging.equalsIgnoreCase("cursor") || cursor != null) {
+            try {
+                CursorPageDTO<TransactionDTO> transactions = transactionService.getTransactionsByCursor(
+                        currentUser.userId(principal), category, sortBy, cursor, limit);
+                return new ResponseEntity<>(transactions, HttpStatus.OK);
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        try {
+            TransactionPageDTO transactions = transactionService.getTransactions(
+                    currentUser.userId(principal), category, sortBy, page, limit);
+            return new ResponseEntity<>(transactions, HttpStatus.OK);
+        } catch (ServiceBusyException e) {
+            // Waited too long on an identical request's load (see ReadCoalescer)
+            return AuthController.busy(e);
+        }
+    }
 
-        Page<TransactionEntity> transactions = transactionService.getTransactions(
-                principal.getName(), category, sortBy, page, limit);
+    // GET /api/transactions/recent - latest N transactions as a lightweight projection
+    @GetMapping("/recent")
+    public ResponseEntity<?> getRecentTransactions(
+            Principal principal,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        try {
+            List<RecentTransactionView> recent = transactionService.getRecentTransactions(currentUser.userId(principal), limit);
+            return new ResponseEntity<>(recent, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
 
-        return new ResponseEntity<>(transactions, HttpStatus.OK);
+    // GET /api/transactions/export?format=csv|ndjson&category=&from=YYYY-MM-DD&to=YYYY-MM-DD&gzip=true
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            Principal principal,
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false, defaultValue = "false") boolean gzip) {
+        TransactionExportService.Export export;
+        try {
+            export = transactionExportService.prepare(currentUser.userId(principal), format, category, from, to);
+        } catch (IllegalArgumentException e) {
+            // Typed as a stream too: Spring only streams ResponseEntity<StreamingResponseBody>, not ResponseEntity<?>
+            byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(out -> out.write(message));
+        }
+
+        String extension = export.format() == TransactionExportService.Format.CSV ? "csv" : "ndjson";
+        MediaType contentType = export.format() == TransactionExportService.Format.CSV
+                ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        if (gzip) {
+            extension += ".gz";
+            contentType = MediaType.parseMediaType("application/gzip");
+        }
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gz = new GZIPOutputStream(out, 8192);
+                transactionExportService.write(export, gz);
+                gz.finish();
+            } else {
+                transactionExportService.write(export, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions." + extension + "\"")
+                .body(body);
+    }
+
+    // POST /api/transactions/import?format=csv|ofx - body is the raw file, read as a stream
+    @PostMapping("/import")
+    public ResponseEntity<?> importTransactions(
+            HttpServletRequest request,
+            Principal principal,
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) String category) {
+        try {
+            ImportResultDTO result = format.equalsIgnoreCase("ofx")
+                    ? transactionImportService.importOfx(currentUser.userId(principal), request.getInputStream(), accountId, category)
+                    : transactionImportService.importCsv(currentUser.userId(principal), request.getInputStream(), accountId);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>("An error occurred while importing transactions", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
     }
 
     // POST /api/transactions
     @PostMapping
     public ResponseEntity<?> createTransaction(@RequestBody TransactionDTO transactionDTO, Principal principal) {
         try {
-            TransactionEntity createdTransaction = transactionService.createTransaction(principal.getName(), transactionDTO);
+            TransactionEntity createdTransaction = transactionService.createTransaction(currentUser.userId(principal), transactionDTO);
             return new ResponseEntity<>("Transaction created successfully", HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -50,7 +166,7 @@ public class TransactionController {
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTransaction(@PathVariable Long id, @RequestBody TransactionDTO transactionDTO, Principal principal) {
         try {
-            TransactionEntity updatedTransaction = transactionService.updateTransaction(principal.getName(), id, transactionDTO);
+            TransactionEntity updatedTransaction = transactionService.updateTransaction(currentUser.userId(principal), id, transactionDTO);
             return new ResponseEntity<>("Transaction updated successfully", HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -63,7 +179,7 @@ public class TransactionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTransaction(@PathVariable Long id, Principal principal) {
         try {
-            transactionService.deleteTransaction(principal.getName(), id);
+            transactionService.deleteTransaction(currentUser.userId(principal), id);
             return new ResponseEntity<>("Transaction deleted successfully", HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
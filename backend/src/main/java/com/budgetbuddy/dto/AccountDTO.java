@@ -1,9 +1,11 @@
 package com.budgetbuddy.dto;
 
+import java.math.BigDecimal;
+
 public class AccountDTO {
     private String name;
     private String type; // 'checking', 'savings', 'credit', 'other'
-    private Double balance; // Optional, defaults to 0.0
+    private BigDecimal balance; // Optional, defaults to 0.00
     
 
     // Getters and setters
@@ -23,11 +25,11 @@ public class AccountDTO {
         this.type = type;
     }
 
-    public Double getBalance() {
+    public BigDecimal getBalance() {
         return this.balance;
     }
 
-    public void setBalance(Double balance) {
+    public void setBalance(BigDecimal balance) {
         this.balance = balance;
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.budgetbuddy.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a cursor (keyset) paginated list.
+ * Pass nextCursor/prevCursor back as the 'cursor' parameter to move forward/backward; null means no more rows.
+ */
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private Map<Long, AccountDTO> accounts;
+    private String nextCursor;
+    private String prevCursor;
+    private int size;
+
+    // Constructors
+    public CursorPageDTO() {}
+
+    public CursorPageDTO(List<T> content, Map<Long, AccountDTO> accounts, String nextCursor, String prevCursor) {
+        this.content = content;
+        this.accounts = accounts;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+        this.size = content.size();
+    }
+
+    // Getters and setters
+    public List<T> getContent() {
+        return this.content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public Map<Long, AccountDTO> getAccounts() {
+        return this.accounts;
+    }
+
+    public void setAccounts(Map<Long, AccountDTO> accounts) {
+        this.accounts = accounts;
+    }
+
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return this.prevCursor;
+    }
+
+    public void setPrevCursor(String prevCursor) {
+        this.prevCursor = prevCursor;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
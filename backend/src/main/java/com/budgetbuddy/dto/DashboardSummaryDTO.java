@@ -10,6 +10,9 @@ public class DashboardSummaryDTO {
     private List<TransactionSummary> recentTransactions;
     private List<MonthlyTotal> monthlyIncomeExpense;
     private List<CategorySpending> categorySpendingLast6Months;
+    // True when served from the last good summary because a fresh one wasn't available; asOf is then set
+    private boolean stale;
+    private String asOf;
 
     // Constructors
     public DashboardSummaryDTO() {}
@@ -24,6 +27,15 @@ public class DashboardSummaryDTO {
         this.categorySpendingLast6Months = categorySpendingLast6Months;
     }
 
+    // Copy marked as stale; the cached original is shared between requests and stays unchanged
+    public DashboardSummaryDTO asStale(String asOf) {
+        DashboardSummaryDTO copy = new DashboardSummaryDTO(totalBalance, recentTransactions,
+                monthlyIncomeExpense, categorySpendingLast6Months);
+        copy.stale = true;
+        copy.asOf = asOf;
+        return copy;
+    }
+
     // Inner classes
     public static class TransactionSummary {
         private Long id;
@@ -168,4 +180,20 @@ public class DashboardSummaryDTO {
     public void setCategorySpendingLast6Months(List<CategorySpending> categorySpendingLast6Months) { 
         this.categorySpendingLast6Months = categorySpendingLast6Months; 
     }
-}
\ No newline at end of file
+
+    public boolean isStale() {
+        return this.stale;
+    }
+
+    public void setStale(boolean stale) {
+        this.stale = stale;
+    }
+
+    public String getAsOf() {
+        return this.asOf;
+    }
+
+    public void setAsOf(String asOf) {
+        this.asOf = asOf;
+    }
+}
@@ -1,9 +1,11 @@
 package com.budgetbuddy.dto;
 
+import java.math.BigDecimal;
+
 public class TransactionDTO {
     private Long id;                 
     private Long accountId;
-    private Double amount;
+    private BigDecimal amount;
     private String type;
     private String category;
     private String date;
@@ -26,11 +28,11 @@ public class TransactionDTO {
         this.accountId = accountId; 
     }
 
-    public Double getAmount() { 
+    public BigDecimal getAmount() { 
         return this.amount; 
     }
 
-    public void setAmount(Double amount) { 
+    public void setAmount(BigDecimal amount) { 
         this.amount = amount; 
     }
 
@@ -0,0 +1,80 @@
+package com.budgetbuddy.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of GET /api/transactions.
+ * Rows reference their account by id; each account on the page is listed once in 'accounts'.
+ * Page fields keep the same names as Spring's Page JSON so existing clients keep working.
+ */
+public class TransactionPageDTO {
+    private List<TransactionDTO> content;
+    private Map<Long, AccountDTO> accounts;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    // Constructors
+    public TransactionPageDTO() {}
+
+    public TransactionPageDTO(List<TransactionDTO> content, Map<Long, AccountDTO> accounts,
+                              int number, int size, long totalElements, int totalPages) {
+        this.content = content;
+        this.accounts = accounts;
+        this.number = number;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    // Getters and setters
+    public List<TransactionDTO> getContent() {
+        return this.content;
+    }
+
+    public void setContent(List<TransactionDTO> content) {
+        this.content = content;
+    }
+
+    public Map<Long, AccountDTO> getAccounts() {
+        return this.accounts;
+    }
+
+    public void setAccounts(Map<Long, AccountDTO> accounts) {
+        this.accounts = accounts;
+    }
+
+    public int getNumber() {
+        return this.number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return this.totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return this.totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+}
@@ -1,9 +1,20 @@
 package com.budgetbuddy.entity;
 
+import com.budgetbuddy.util.MoneyUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// Only changed columns are written, so renaming an account never overwrites a concurrently adjusted balance.
+// Second-level cached (region "accounts", see JpaConfig); balance adjustments evict only the adjusted row.
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accounts")
 @Table(name = "accounts")
 public class AccountEntity {
 
@@ -11,7 +22,7 @@ public class AccountEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
@@ -22,8 +33,9 @@ public class AccountEntity {
     @Column(name = "type", nullable = false)
     private AccountType type;
 
-    @Column(name = "balance", nullable = false)
-    private Double balance = 0.0;
+    // Stored in cents; see MoneyUtil
+    @Column(name = "balance_cents", nullable = false)
+    private long balanceCents;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -42,6 +54,8 @@ public class AccountEntity {
         this.id = id;
     }
 
+    // Lazy proxy; never rendered, the accounts API is already scoped to the caller
+    @JsonIgnore
     public UserEntity getUser() {
         return user;
     }
@@ -66,12 +80,18 @@ public class AccountEntity {
         this.type = type;
     }
 
-    public Double getBalance() {
-        return balance;
+    @JsonIgnore
+    public long getBalanceCents() {
+        return balanceCents;
     }
 
-    public void setBalance(Double balance) {
-        this.balance = balance;
+    public void setBalanceCents(long balanceCents) {
+        this.balanceCents = balanceCents;
+    }
+
+    // Rendered as "balance" in the accounts API
+    public BigDecimal getBalance() {
+        return MoneyUtil.toDecimal(balanceCents);
     }
 
     public LocalDateTime getCreatedAt() {
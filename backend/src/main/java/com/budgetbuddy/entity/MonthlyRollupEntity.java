@@ -0,0 +1,99 @@
+package com.budgetbuddy.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated transaction totals per user, month, type and category.
+ * Maintained incrementally by RollupService so the dashboard never has to rescan raw transactions.
+ */
+@Entity
+@Table(name = "monthly_rollups",
+       uniqueConstraints = @UniqueConstraint(
+               name = "uq_monthly_rollups_key",
+               columnNames = {"user_id", "month_start", "type", "category"}),
+       indexes = @Index(name = "idx_monthly_rollups_user_month", columnList = "user_id, month_start"))
+public class MonthlyRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // First day of the month this row covers, e.g. 2025-04-01
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private TransactionEntity.TransactionType type;
+
+    @Column(name = "category", nullable = false)
+    private String category;
+
+    // Sum of amounts in cents
+    @Column(name = "total_cents", nullable = false)
+    private long totalCents;
+
+    @Column(name = "txn_count", nullable = false)
+    private Long txnCount = 0L;
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDate getMonthStart() {
+        return monthStart;
+    }
+
+    public void setMonthStart(LocalDate monthStart) {
+        this.monthStart = monthStart;
+    }
+
+    public TransactionEntity.TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionEntity.TransactionType type) {
+        this.type = type;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public void setTotalCents(long totalCents) {
+        this.totalCents = totalCents;
+    }
+
+    public Long getTxnCount() {
+        return txnCount;
+    }
+
+    public void setTxnCount(Long txnCount) {
+        this.txnCount = txnCount;
+    }
+}
@@ -0,0 +1,37 @@
+package com.budgetbuddy.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Access token revoked before its exp, identified by its jti claim.
+ * Kept only until expiresAt; after that the token is rejected on its own.
+ */
+@Entity
+@Table(name = "revoked_tokens",
+       indexes = @Index(name = "idx_revoked_tokens_expires", columnList = "expires_at"))
+public class RevokedTokenEntity {
+
+    @Id
+    @Column(name = "jti", length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    protected RevokedTokenEntity() {
+    }
+
+    public RevokedTokenEntity(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
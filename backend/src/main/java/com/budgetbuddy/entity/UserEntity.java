@@ -1,9 +1,17 @@
 package com.budgetbuddy.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
+// Second-level cached (region "users", see JpaConfig); profile updates go through Hibernate and refresh it.
+// Only changed columns are written, so a password change never rewrites the name or email.
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
 public class UserEntity {
 
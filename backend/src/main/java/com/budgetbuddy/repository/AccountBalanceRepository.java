@@ -0,0 +1,11 @@
+package com.budgetbuddy.repository;
+
+/**
+ * Balance postings, kept apart from AccountRepository's derived queries so they can evict precisely
+ * (see AccountBalanceRepositoryImpl).
+ */
+public interface AccountBalanceRepository {
+
+    /** Atomic in-database increment; concurrent postings to one account can't overwrite each other */
+    int adjustBalance(Long accountId, long deltaCents);
+}
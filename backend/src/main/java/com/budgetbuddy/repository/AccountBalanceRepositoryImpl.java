@@ -0,0 +1,53 @@
+package com.budgetbuddy.repository;
+
+import com.budgetbuddy.entity.AccountEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A bulk HQL update would make Hibernate drop the whole accounts region and every cached accounts-by-user
+ * result on each posting. This one is native and declares a query space no entity uses, so nothing is
+ * dropped wholesale; only the adjusted account's cached row is evicted. Cached accounts-by-user results
+ * hold ids only, and a balance change doesn't change which accounts a user has.
+ */
+public class AccountBalanceRepositoryImpl implements AccountBalanceRepository {
+
+    private static final String BALANCE_QUERY_SPACE = "account_balances";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int adjustBalance(Long accountId, long deltaCents) {
+        entityManager.flush();
+        int updated = entityManager
+                .createNativeQuery("UPDATE accounts SET balance_cents = balance_cents + :deltaCents WHERE id = :accountId")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(BALANCE_QUERY_SPACE)
+                .setParameter("deltaCents", deltaCents)
+                .setParameter("accountId", accountId)
+                .executeUpdate();
+        if (updated > 0) {
+            evict(accountId);
+            // A reader may cache the pre-commit row in between, so evict again once the transaction has finished
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evict(accountId);
+                    }
+                });
+            }
+        }
+        return updated;
+    }
+
+    private void evict(Long accountId) {
+        entityManager.getEntityManagerFactory().getCache().evict(AccountEntity.class, accountId);
+    }
+}
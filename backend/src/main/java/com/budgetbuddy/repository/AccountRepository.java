@@ -1,12 +1,28 @@
 package com.budgetbuddy.repository;
 
 import com.budgetbuddy.entity.AccountEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
+public interface AccountRepository extends JpaRepository<AccountEntity, Long>, AccountBalanceRepository {
+    // Query cache holds the ids, the accounts region the rows; account inserts, updates and deletes invalidate it
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "accounts-by-user")
+    })
     List<AccountEntity> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    // Summed as BIGINT in the database; no per-account conversion in Java. For dashboard, with its statement timeout
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "3000"))
+    @Query("SELECT COALESCE(SUM(a.balanceCents), 0) FROM AccountEntity a WHERE a.user.id = :userId")
+    long sumBalanceCentsByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,85 @@
+package com.budgetbuddy.repository;
+
+import com.budgetbuddy.entity.MonthlyRollupEntity;
+import com.budgetbuddy.entity.TransactionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollupEntity, Long> {
+
+    Optional<MonthlyRollupEntity> findByUserIdAndMonthStartAndTypeAndCategory(
+            Long userId, LocalDate monthStart, TransactionEntity.TransactionType type, String category);
+
+    // For dashboard: monthly income/expense totals. Dashboard reads carry a statement timeout (milliseconds,
+    // applied in whole seconds) so a distressed database can't hold their connections indefinitely.
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "3000"))
+    @Query("""
+        SELECT r.monthStart, r.type, SUM(r.totalCents)
+        FROM MonthlyRollupEntity r
+        WHERE r.userId = :userId
+          AND r.monthStart >= :from
+        GROUP BY r.monthStart, r.type
+        """)
+    List<Object[]> sumTotalsByMonthAndType(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from);
+
+    // For dashboard: spending by category
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "3000"))
+    @Query("""
+        SELECT r.category, SUM(r.totalCents)
+        FROM MonthlyRollupEntity r
+        WHERE r.userId = :userId
+          AND r.type = 'EXPENSE'
+          AND r.monthStart >= :from
+        GROUP BY r.category
+        HAVING SUM(r.totalCents) <> 0
+        ORDER BY SUM(r.totalCents) DESC
+        """)
+    List<Object[]> sumExpenseByCategory(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from);
+
+    // Atomic in-database increment of one bucket; returns 0 when the bucket doesn't exist yet
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE MonthlyRollupEntity r
+        SET r.totalCents = r.totalCents + :amountCents, r.txnCount = r.txnCount + :countDelta
+        WHERE r.userId = :userId AND r.monthStart = :monthStart AND r.type = :type AND r.category = :category
+        """)
+    int increment(@Param("userId") Long userId,
+                  @Param("monthStart") LocalDate monthStart,
+                  @Param("type") TransactionEntity.TransactionType type,
+                  @Param("category") String category,
+                  @Param("amountCents") long amountCents,
+                  @Param("countDelta") Long countDelta);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        DELETE FROM MonthlyRollupEntity r
+        WHERE r.userId = :userId AND r.monthStart = :monthStart AND r.type = :type AND r.category = :category
+          AND r.txnCount <= 0
+        """)
+    int deleteIfEmpty(@Param("userId") Long userId,
+                      @Param("monthStart") LocalDate monthStart,
+                      @Param("type") TransactionEntity.TransactionType type,
+                      @Param("category") String category);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollupEntity r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,192 @@
+package com.budgetbuddy.repository;
+
+import com.budgetbuddy.entity.TransactionEntity;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC versions of the read queries behind GET /api/transactions and the dashboard, for the reactive read API.
+ * Each one is the SQL that TransactionRepository, AccountRepository or MonthlyRollupRepository issues for the
+ * same call, so results match the MVC endpoints row for row and use the same indexes.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveReadQueries {
+
+    // Rows are requested from the driver this many at a time, as the subscriber asks for them
+    private static final int FETCH_SIZE = 100;
+
+    private static final String LIST_SQL = """
+        SELECT t.id, t.account_id, t.amount_cents, t.type, t.category, t.date, t.description, t.created_at
+        FROM transactions t
+        WHERE t.user_id = :userId
+        """;
+
+    // :category arrives escaped by likeLiteral, so % and _ in it match themselves
+    private static final String CATEGORY_FILTER = """
+          AND LOWER(t.category) LIKE LOWER(CONCAT('%', :category, '%')) ESCAPE '\\'
+        """;
+
+    private static final String RECENT_SQL = """
+        SELECT t.id, a.name, t.amount_cents, t.type, t.category, t.date
+        FROM transactions t JOIN accounts a ON a.id = t.account_id
+        WHERE t.user_id = :userId
+        ORDER BY t.date DESC, t.id DESC
+        LIMIT :limit
+        """;
+
+    private static final String BALANCE_SQL = """
+        SELECT CAST(COALESCE(SUM(a.balance_cents), 0) AS BIGINT) FROM accounts a WHERE a.user_id = :userId
+        """;
+
+    private static final String MONTHLY_TOTALS_SQL = """
+        SELECT r.month_start, r.type, CAST(SUM(r.total_cents) AS BIGINT)
+        FROM monthly_rollups r
+        WHERE r.user_id = :userId
+          AND r.month_start >= :from
+        GROUP BY r.month_start, r.type
+        """;
+
+    private static final String EXPENSE_BY_CATEGORY_SQL = """
+        SELECT r.category, CAST(SUM(r.total_cents) AS BIGINT)
+        FROM monthly_rollups r
+        WHERE r.user_id = :userId
+          AND r.type = 'EXPENSE'
+          AND r.month_start >= :from
+        GROUP BY r.category
+        HAVING SUM(r.total_cents) <> 0
+        ORDER BY SUM(r.total_cents) DESC
+        """;
+
+    private final DatabaseClient db;
+
+    public ReactiveReadQueries(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /**
+     * Same rows as findListByUserId/findListByUserIdAndCategory for one page. The sort key must be one of
+     * TransactionService's normalized keys (date_desc, date_asc, amount_desc, amount_asc); id breaks ties.
+     */
+    public Flux<TransactionListView> findList(Long userId, String category, String sortKey, long offset, int limit) {
+        boolean filtered = category != null && !category.isEmpty();
+        String sql = LIST_SQL + (filtered ? CATEGORY_FILTER : "")
+                + "ORDER BY " + orderBy(sortKey) + "\nLIMIT :limit OFFSET :offset";
+
+        DatabaseClient.GenericExecuteSpec spec = db.sql(sql)
+                .filter((statement, next) -> next.execute(statement.fetchSize(FETCH_SIZE)))
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .bind("offset", offset);
+        if (filtered) {
+            spec = spec.bind("category", likeLiteral(category));
+        }
+        return spec.map(ReactiveReadQueries::toListRow).all();
+    }
+
+    // Same rows as TransactionRepository.findRecentByUserId
+    public Flux<RecentTransactionView> findRecent(Long userId, int limit) {
+        return db.sql(RECENT_SQL)
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .map(ReactiveReadQueries::toRecentRow)
+                .all();
+    }
+
+    // Same value as AccountRepository.sumBalanceCentsByUserId
+    public Mono<Long> sumBalanceCents(Long userId) {
+        return db.sql(BALANCE_SQL)
+                .bind("userId", userId)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // Same rows as MonthlyRollupRepository.sumTotalsByMonthAndType: (month start, type, cents)
+    public Flux<Object[]> sumTotalsByMonthAndType(Long userId, LocalDate from) {
+        return db.sql(MONTHLY_TOTALS_SQL)
+                .bind("userId", userId)
+                .bind("from", from)
+                .map(row -> new Object[] {
+                        row.get(0, LocalDate.class),
+                        TransactionEntity.TransactionType.valueOf(row.get(1, String.class)),
+                        row.get(2, Long.class)
+                })
+                .all();
+    }
+
+    // Same rows as MonthlyRollupRepository.sumExpenseByCategory: (category, cents)
+    public Flux<Object[]> sumExpenseByCategory(Long userId, LocalDate from) {
+        return db.sql(EXPENSE_BY_CATEGORY_SQL)
+                .bind("userId", userId)
+                .bind("from", from)
+                .map(row -> new Object[] { row.get(0, String.class), row.get(1, Long.class) })
+                .all();
+    }
+
+    // Mirrors TransactionService.resolveSort; only these fixed fragments are ever concatenated into the SQL
+    private static String orderBy(String sortKey) {
+        return switch (sortKey) {
+            case "date_asc" -> "t.date ASC, t.id ASC";
+            case "amount_desc" -> "t.amount_cents DESC, t.id DESC";
+            case "amount_asc" -> "t.amount_cents ASC, t.id ASC";
+            default -> "t.date DESC, t.id DESC";
+        };
+    }
+
+    // Same escaping Spring Data applies for the JPA finders, with backslash as the escape character
+    private static String likeLiteral(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static TransactionListView toListRow(Readable row) {
+        return new ListRow(
+                row.get(0, Long.class),
+                row.get(1, Long.class),
+                row.get(2, Long.class),
+                TransactionEntity.TransactionType.valueOf(row.get(3, String.class)),
+                row.get(4, String.class),
+                row.get(5, LocalDateTime.class),
+                row.get(6, String.class),
+                row.get(7, LocalDateTime.class));
+    }
+
+    private static RecentTransactionView toRecentRow(Readable row) {
+        return new RecentRow(
+                row.get(0, Long.class),
+                row.get(1, String.class),
+                row.get(2, Long.class),
+                TransactionEntity.TransactionType.valueOf(row.get(3, String.class)),
+                row.get(4, String.class),
+                row.get(5, LocalDateTime.class));
+    }
+
+    private record ListRow(Long id, Long accountId, long amountCents, TransactionEntity.TransactionType type,
+                           String category, LocalDateTime date, String description, LocalDateTime createdAt)
+            implements TransactionListView {
+        @Override public Long getId() { return id; }
+        @Override public Long getAccountId() { return accountId; }
+        @Override public long getAmountCents() { return amountCents; }
+        @Override public TransactionEntity.TransactionType getType() { return type; }
+        @Override public String getCategory() { return category; }
+        @Override public LocalDateTime getDate() { return date; }
+        @Override public String getDescription() { return description; }
+        @Override public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+
+    private record RecentRow(Long id, String accountName, long amountCents, TransactionEntity.TransactionType type,
+                             String category, LocalDateTime date) implements RecentTransactionView {
+        @Override public Long getId() { return id; }
+        @Override public String getAccountName() { return accountName; }
+        @Override public long getAmountCents() { return amountCents; }
+        @Override public TransactionEntity.TransactionType getType() { return type; }
+        @Override public String getCategory() { return category; }
+        @Override public LocalDateTime getDate() { return date; }
+    }
+}
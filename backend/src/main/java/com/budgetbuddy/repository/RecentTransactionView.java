@@ -0,0 +1,27 @@
+package com.budgetbuddy.repository;
+
+import com.budgetbuddy.entity.TransactionEntity;
+import com.budgetbuddy.util.MoneyUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight read-only view of a transaction for "recent activity" widgets.
+ * Only the columns listed here are selected; no entities or associations are loaded.
+ */
+public interface RecentTransactionView {
+    Long getId();
+    String getAccountName();
+    @JsonIgnore
+    long getAmountCents();
+    TransactionEntity.TransactionType getType();
+    String getCategory();
+    LocalDateTime getDate();
+
+    // Returned directly by GET /api/transactions/recent, so render the amount as an exact decimal
+    default BigDecimal getAmount() {
+        return MoneyUtil.toDecimal(getAmountCents());
+    }
+}
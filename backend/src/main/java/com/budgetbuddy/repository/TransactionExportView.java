@@ -0,0 +1,19 @@
+package com.budgetbuddy.repository;
+
+import com.budgetbuddy.entity.TransactionEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat row for exports. Selected column by column so streaming never builds managed entities.
+ */
+public interface TransactionExportView {
+    Long getId();
+    Long getAccountId();
+    String getAccountName();
+    long getAmountCents();
+    TransactionEntity.TransactionType getType();
+    String getCategory();
+    LocalDateTime getDate();
+    String getDescription();
+}
@@ -0,0 +1,19 @@
+package com.budgetbuddy.repository;
+
+import com.budgetbuddy.entity.TransactionEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat transaction row for the list endpoint. The account is referenced by id only.
+ */
+public interface TransactionListView {
+    Long getId();
+    Long getAccountId();
+    long getAmountCents();
+    TransactionEntity.TransactionType getType();
+    String getCategory();
+    LocalDateTime getDate();
+    String getDescription();
+    LocalDateTime getCreatedAt();
+}
@@ -1,45 +1,114 @@
 package com.budgetbuddy.repository;
 
 import com.budgetbuddy.entity.TransactionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<TransactionEntity, Long> {
 
-    // For GET /api/transactions (filtering, sorting, pagination)
-    Page<TransactionEntity> findByUserId(Long userId, Pageable pageable);
+    // Statement timeouts are given in milliseconds but applied in whole seconds, JDBC's resolution. A query past
+    // its timeout is cancelled so it stops holding a connection, and the request gets a 503 (see BulkheadFilter).
+    // A page's count query shares its timeout.
+    // Category filters match the text literally: % and _ in it are escaped, as the derived keyset finder does.
 
-    Page<TransactionEntity> findByUserIdAndCategoryContainingIgnoreCase(
-            Long userId, String category, Pageable pageable);
+    // For GET /api/transactions (filtering, sorting, pagination). Lean list rows: scalar columns only,
+    // no account/user graphs
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "5000"))
+    @Query(value = """
+        SELECT t.id AS id, t.account.id AS accountId, t.amountCents AS amountCents, t.type AS type,
+               t.category AS category, t.date AS date, t.description AS description, t.createdAt AS createdAt
+        FROM TransactionEntity t
+        WHERE t.user.id = :userId
+        """,
+        countQuery = "SELECT COUNT(t) FROM TransactionEntity t WHERE t.user.id = :userId")
+    Page<TransactionListView> findListByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    // For dashboard: recent transactions
-    List<TransactionEntity> findByUserIdOrderByDateDesc(Long userId);
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "5000"))
+    @Query(value = """
+        SELECT t.id AS id, t.account.id AS accountId, t.amountCents AS amountCents, t.type AS type,
+               t.category AS category, t.date AS date, t.description AS description, t.createdAt AS createdAt
+        FROM TransactionEntity t
+        WHERE t.user.id = :userId
+          AND LOWER(t.category) LIKE LOWER(CONCAT('%', :#{escape(#category)}, '%')) ESCAPE :#{escapeCharacter()}
+        """,
+        countQuery = """
+        SELECT COUNT(t) FROM TransactionEntity t
+        WHERE t.user.id = :userId
+          AND LOWER(t.category) LIKE LOWER(CONCAT('%', :#{escape(#category)}, '%')) ESCAPE :#{escapeCharacter()}
+        """)
+    Page<TransactionListView> findListByUserIdAndCategory(
+            @Param("userId") Long userId, @Param("category") String category, Pageable pageable);
 
-    // For dashboard: monthly totals in current year
-    @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId AND t.date >= :dateAfter")
-    List<TransactionEntity> findByUserIdAndDateAfter(
-            @Param("userId") Long userId,
-            @Param("dateAfter") LocalDateTime dateAfter);
+    // Keyset (cursor) variants of the above: no COUNT query, seek instead of OFFSET
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "3000"))
+    Window<TransactionListView> findListByUserId(Long userId, ScrollPosition position, Sort sort, Limit limit);
 
-    // For dashboard: spending by category in last 6 months
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "3000"))
+    Window<TransactionListView> findListByUserIdAndCategoryContainingIgnoreCase(
+            Long userId, String category, ScrollPosition position, Sort sort, Limit limit);
+
+    // For dashboard and other recent-activity widgets: top N by date, served by idx_transactions_user_id_date
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "2000"))
     @Query("""
-        SELECT t.category, SUM(t.amount)
+        SELECT t.id AS id, a.name AS accountName, t.amountCents AS amountCents,
+               t.type AS type, t.category AS category, t.date AS date
+        FROM TransactionEntity t JOIN t.account a
+        WHERE t.user.id = :userId
+        ORDER BY t.date DESC, t.id DESC
+        """)
+    List<RecentTransactionView> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // For rollup rebuild: raw totals grouped the same way as MonthlyRollupEntity; runs off the request path
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "30000"))
+    @Query("""
+        SELECT t.user.id, YEAR(t.date), MONTH(t.date), t.type, t.category, SUM(t.amountCents), COUNT(t)
         FROM TransactionEntity t
         WHERE t.user.id = :userId
-          AND t.type = 'EXPENSE'
-          AND t.date >= :dateAfter
-        GROUP BY t.category
-        ORDER BY SUM(t.amount) DESC
+        GROUP BY t.user.id, YEAR(t.date), MONTH(t.date), t.type, t.category
+        """)
+    List<Object[]> aggregateMonthlyRollupsForUser(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "30000"))
+    @Query("SELECT DISTINCT t.user.id FROM TransactionEntity t")
+    List<Long> findDistinctUserIds();
+
+    // For export: forward-only cursor, rows are fetched from the driver 500 at a time.
+    // Must be consumed inside a transaction; empty category and wide from/to mean "no filter".
+    // No statement timeout: a large export legitimately reads for a long time, and runs off the request thread.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT t.id AS id, a.id AS accountId, a.name AS accountName, t.amountCents AS amountCents, t.type AS type,
+               t.category AS category, t.date AS date, t.description AS description
+        FROM TransactionEntity t JOIN t.account a
+        WHERE t.user.id = :userId
+          AND LOWER(t.category) LIKE LOWER(CONCAT('%', :#{escape(#category)}, '%')) ESCAPE :#{escapeCharacter()}
+          AND t.date >= :from
+          AND t.date < :to
+        ORDER BY t.date ASC, t.id ASC
         """)
-    List<Object[]> sumAmountByCategoryForUserAndDateAfter(
+    Stream<TransactionExportView> streamForExport(
             @Param("userId") Long userId,
-            @Param("dateAfter") LocalDateTime dateAfter);
-}
\ No newline at end of file
+            @Param("category") String category,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
@@ -2,11 +2,12 @@ package com.budgetbuddy.service;
 
 import com.budgetbuddy.dto.AccountDTO;
 import com.budgetbuddy.entity.AccountEntity;
-import com.budgetbuddy.entity.UserEntity;
 import com.budgetbuddy.repository.AccountRepository;
 import com.budgetbuddy.repository.UserRepository;
+import com.budgetbuddy.util.MoneyUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -19,13 +20,19 @@ public class AccountService {
     @Autowired
     private UserRepository userRepository;
 
-    public Iterable<AccountEntity> getAccountsByUsername(String userEmail) {
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        return accountRepository.findByUserId(user.getId());
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Transactional(readOnly = true)
+    public Iterable<AccountEntity> getAccountsByUserId(Long userId) {
+        return accountRepository.findByUserId(userId);
     }
 
-    public AccountEntity createAccount(String userEmail, AccountDTO accountDTO) {
+    @Transactional
+    public AccountEntity createAccount(Long userId, AccountDTO accountDTO) {
         // Validate input
         if (accountDTO.getName() == null || accountDTO.getName().trim().isEmpty()) {
             throw new IllegalArgumentException("Account name is required");
@@ -34,26 +41,21 @@ public class AccountService {
             throw new IllegalArgumentException("Account type is required");
         }
 
-        // Find the current user
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
         // Create new account entity
         AccountEntity account = new AccountEntity();
-        account.setUser(user); // Associate with user
+        account.setUser(userRepository.getReferenceById(userId)); // Associate with user
         account.setName(accountDTO.getName().trim());
         account.setType(AccountEntity.AccountType.valueOf(accountDTO.getType().toLowerCase()));
-        account.setBalance(accountDTO.getBalance() != null ? accountDTO.getBalance() : 0.0);
+        account.setBalanceCents(accountDTO.getBalance() != null ? MoneyUtil.toCents(accountDTO.getBalance()) : 0L);
 
         // Save to database
-        return accountRepository.save(account);
+        AccountEntity saved = accountRepository.save(account);
+        dashboardCache.invalidate(userId);
+        return saved;
     }
 
-    public AccountEntity updateAccount(String userEmail, Long accountId, AccountDTO accountDTO) {
-        // Find the current user
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
+    @Transactional
+    public AccountEntity updateAccount(Long userId, Long accountId, AccountDTO accountDTO) {
         // Find the account
         Optional<AccountEntity> optionalAccount = accountRepository.findById(accountId);
         if (optionalAccount.isEmpty()) {
@@ -63,7 +65,7 @@ public class AccountService {
         AccountEntity account = optionalAccount.get();
 
         // Ownership check: Ensure the account belongs to the user
-        if (!account.getUser().getId().equals(user.getId())) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("You can only update your own accounts");
         }
 
@@ -78,23 +80,18 @@ public class AccountService {
         }
 
         if (accountDTO.getBalance() != null) {
-            Double b = accountDTO.getBalance();
-            if (b.isNaN() || b.isInfinite()) {
-                throw new IllegalArgumentException("Balance must be a valid number");
-            }
-            account.setBalance(b);
+            account.setBalanceCents(MoneyUtil.toCents(accountDTO.getBalance()));
         }
         
 
         // Save updated account
-        return accountRepository.save(account);
+        AccountEntity saved = accountRepository.save(account);
+        dashboardCache.invalidate(userId);
+        return saved;
     }
 
-    public void deleteAccount(String userEmail, Long accountId) {
-        // Find the current user
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
+    @Transactional
+    public void deleteAccount(Long userId, Long accountId) {
         // Find the account
         Optional<AccountEntity> optionalAccount = accountRepository.findById(accountId);
         if (optionalAccount.isEmpty()) {
@@ -104,12 +101,17 @@ public class AccountService {
         AccountEntity account = optionalAccount.get();
 
         // Ownership check: Ensure the account belongs to the user
-        if (!account.getUser().getId().equals(user.getId())) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("You can only delete your own accounts");
         }
 
-        // Delete the account
+        // Delete the account; flushed now so the rebuild below no longer sees its transactions
         accountRepository.delete(account);
+        accountRepository.flush();
+
+        // The account's transactions go with it (ON DELETE CASCADE), so regenerate this user's rollups
+        rollupService.rebuildForUser(userId);
+        dashboardCache.invalidate(userId);
     }
 
 
@@ -1,11 +1,11 @@
 package com.budgetbuddy.service;
 
+import com.budgetbuddy.config.UserPrincipal;
 import com.budgetbuddy.dto.UserDTO;
 import com.budgetbuddy.entity.UserEntity;
 import com.budgetbuddy.repository.UserRepository;
 import com.budgetbuddy.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,11 +15,17 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     public UserEntity registerUser(UserDTO userDTO) {
         // Basic validation
         if (userDTO.getFirstName() == null || userDTO.getFirstName().isEmpty()) {
@@ -46,13 +52,13 @@ public class AuthService {
         user.setFirstName(userDTO.getFirstName());
         user.setLastName(userDTO.getLastName());
         user.setEmail(userDTO.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(userDTO.getPassword()));
+        user.setPasswordHash(passwordHasher.encode(userDTO.getPassword()));
 
         // Save user to database
         return userRepository.save(user);
     }
 
-    public String loginUser(String email, String password) {
+    public IssuedTokens loginUser(String email, String password) {
         // Validate input
         if (email == null || email.isEmpty()) {
             throw new IllegalArgumentException("Email is required");
@@ -66,11 +72,41 @@ public class AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("Invalid email or password"));
 
         // Verify password
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHasher.matches(password, user.getPasswordHash())) {
             throw new IllegalArgumentException("Invalid email or password");
         }
 
-        // Generate JWT
-        return jwtUtil.generateToken(user.getEmail());
+        // The plain password is only available here, so this is where hashes move to a new cost factor
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(passwordHasher.encode(password));
+            userRepository.save(user);
+        }
+
+        return issueTokens(user);
+    }
+
+    // Trades a refresh token for a new pair; one indexed lookup, no password hashing
+    public IssuedTokens refresh(String refreshToken) {
+        Long userId = refreshTokenService.consume(refreshToken);
+        UserEntity user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+        return issueTokens(user);
+    }
+
+    // Both tokens are optional; whatever the client presents stops working
+    public void logout(UserPrincipal principal, String accessToken, String refreshToken) {
+        if (principal != null) {
+            tokenRevocationService.revoke(principal.tokenId(), principal.expiresAt());
+        }
+        if (accessToken != null) {
+            jwtUtil.evict(accessToken);
+        }
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    private IssuedTokens issueTokens(UserEntity user) {
+        String accessToken = jwtUtil.generateToken(user.getId(), user.getEmail());
+        String refreshToken = refreshTokenService.issue(user.getId());
+        return new IssuedTokens(accessToken, refreshToken, jwtUtil.getAccessTokenTtl().toSeconds());
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.UserPrincipal;
+import com.budgetbuddy.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * Turns the request principal into a user id.
+ * Tokens carry the id, so this is normally free; tokens issued before the id claim existed
+ * (and any other principal type) fall back to one lookup by email.
+ */
+@Component
+public class CurrentUserResolver {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public Long userId(Principal principal) {
+        Object p = principal instanceof Authentication auth ? auth.getPrincipal() : principal;
+        if (p instanceof UserPrincipal user && user.userId() != null) {
+            return user.userId();
+        }
+        return userRepository.findIdByEmail(principal.getName())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    }
+}
@@ -0,0 +1,318 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.DashboardCacheProperties;
+import com.budgetbuddy.dto.DashboardSummaryDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Bounded per-user cache of computed dashboard summaries.
+ * Entries expire after the configured TTL, the least recently used entry is evicted once
+ * max-entries is reached, and TransactionService/AccountService invalidate a user on every write.
+ * An expired entry is still served, marked stale, for up to stale-ttl while one background refresh runs;
+ * an invalidated one only when a fresh summary can't be computed (query failure, open breaker).
+ */
+@Component
+public class DashboardCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCache.class);
+
+    private final DashboardCacheProperties properties;
+    private final ReadCoalescer readCoalescer;
+    private final ExecutorService refreshExecutor;
+
+    // Access-ordered so the eldest entry is always the least recently used one
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > properties.getMaxEntries()) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // A load remembers the invalidation clock when it starts, and its summary is stored only if its own user
+    // hasn't been invalidated since; other users' writes don't matter. Guarded by this.
+    private long invalidationClock = 0;
+    private final Map<Long, Long> invalidatedAt = new HashMap<>();
+    // Every user counts as invalidated at this point: clear(), or invalidatedAt folded to stay bounded
+    private long allInvalidatedAt = 0;
+    // invalidatedAt is only consulted by running loads, so it is emptied whenever none are
+    private int loadsInFlight = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong failedRefreshes = new AtomicLong();
+
+    // Users with a background refresh queued or running
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    public DashboardCache(DashboardCacheProperties properties, ReadCoalescer readCoalescer,
+                          @Qualifier("dashboardRefreshExecutor") ExecutorService refreshExecutor,
+                          MeterRegistry registry) {
+        this.properties = properties;
+        this.readCoalescer = readCoalescer;
+        this.refreshExecutor = refreshExecutor;
+
+        FunctionCounter.builder("dashboard.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("dashboard.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("dashboard.cache.requests", stale, AtomicLong::get)
+                .tag("result", "stale").register(registry);
+        FunctionCounter.builder("dashboard.cache.refreshes", refreshes, AtomicLong::get)
+                .tag("result", "success").register(registry);
+        FunctionCounter.builder("dashboard.cache.refreshes", failedRefreshes, AtomicLong::get)
+                .tag("result", "failure").register(registry);
+        FunctionCounter.builder("dashboard.cache.evictions", evictions, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("dashboard.cache.size", this, DashboardCache::size)
+                .register(registry);
+    }
+
+    public DashboardSummaryDTO get(Long userId, Supplier<DashboardSummaryDTO> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        Entry entry = lookup(userId);
+        if (entry != null && entry.isFresh(System.nanoTime())) {
+            hits.incrementAndGet();
+            return entry.summary;
+        }
+
+        // Only aged out, no write since: answer from it now and refresh behind the request
+        if (entry != null && !entry.invalidated) {
+            stale.incrementAndGet();
+            refreshInBackground(userId, loader);
+            return entry.asStale();
+        }
+
+        misses.incrementAndGet();
+        long stamp = beginLoad();
+        DashboardSummaryDTO summary;
+        try {
+            summary = loader.get();
+        } catch (RuntimeException e) {
+            endLoad(userId, null, stamp);
+            if (entry == null) {
+                throw e;
+            }
+            // The database is failing or the breaker is open: the last good summary beats an error page
+            stale.incrementAndGet();
+            refreshInBackground(userId, loader);
+            return entry.asStale();
+        }
+        endLoad(userId, summary, stamp);
+        return summary;
+    }
+
+    /**
+     * Non-blocking counterpart of get for the reactive API, with the same entries, stale serving and invalidation.
+     * The loader is subscribed on a miss and a background refresh, never on a hit. There is no ReadCoalescer in
+     * front of it, so concurrent misses for one user each run the loader.
+     */
+    public Mono<DashboardSummaryDTO> getAsync(Long userId, Mono<DashboardSummaryDTO> loader) {
+        if (!properties.isEnabled()) {
+            return loader;
+        }
+        return Mono.defer(() -> {
+            Entry entry = lookup(userId);
+            if (entry != null && entry.isFresh(System.nanoTime())) {
+                hits.incrementAndGet();
+                return Mono.just(entry.summary);
+            }
+            if (entry != null && !entry.invalidated) {
+                stale.incrementAndGet();
+                refreshInBackground(userId, loader);
+                return Mono.just(entry.asStale());
+            }
+
+            misses.incrementAndGet();
+            return load(userId, loader).onErrorResume(e -> {
+                if (entry == null) {
+                    return Mono.error(e);
+                }
+                stale.incrementAndGet();
+                refreshInBackground(userId, loader);
+                return Mono.just(entry.asStale());
+            });
+        });
+    }
+
+    // Runs loader between beginLoad and endLoad; endLoad also runs when the subscriber cancels
+    private Mono<DashboardSummaryDTO> load(Long userId, Mono<DashboardSummaryDTO> loader) {
+        return Mono.defer(() -> {
+            long stamp = beginLoad();
+            AtomicReference<DashboardSummaryDTO> loaded = new AtomicReference<>();
+            return loader.doOnNext(loaded::set).doFinally(signal -> endLoad(userId, loaded.get(), stamp));
+        });
+    }
+
+    private void refreshInBackground(Long userId, Mono<DashboardSummaryDTO> loader) {
+        if (!refreshing.add(userId)) {
+            return;
+        }
+        load(userId, loader)
+                .doFinally(signal -> refreshing.remove(userId))
+                .subscribe(summary -> refreshes.incrementAndGet(), e -> {
+                    failedRefreshes.incrementAndGet();
+                    logger.debug("Background dashboard refresh failed for user {}", userId, e);
+                });
+    }
+
+    // The user's entry, or null; one past its stale-ttl is dropped rather than returned
+    private synchronized Entry lookup(Long userId) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null && !entry.isFresh(now) && now - entry.staleUntil >= 0) {
+            entries.remove(userId);
+            evictions.incrementAndGet();
+            return null;
+        }
+        return entry;
+    }
+
+    // At most one refresh per user at a time; if the refresh pool is full the stale entry just stays a while longer
+    private void refreshInBackground(Long userId, Supplier<DashboardSummaryDTO> loader) {
+        if (!refreshing.add(userId)) {
+            return;
+        }
+        long stamp = beginLoad();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    endLoad(userId, loader.get(), stamp);
+                    refreshes.incrementAndGet();
+                } catch (RuntimeException e) {
+                    endLoad(userId, null, stamp);
+                    failedRefreshes.incrementAndGet();
+                    logger.debug("Background dashboard refresh failed for user {}", userId, e);
+                } finally {
+                    refreshing.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            endLoad(userId, null, stamp);
+            refreshing.remove(userId);
+        }
+    }
+
+    private synchronized long beginLoad() {
+        loadsInFlight++;
+        return invalidationClock;
+    }
+
+    // Stores summary (null when the load failed) unless the user was invalidated after the load began
+    private synchronized void endLoad(Long userId, DashboardSummaryDTO summary, long stamp) {
+        loadsInFlight--;
+        if (summary != null && stamp >= allInvalidatedAt && stamp >= invalidatedAt.getOrDefault(userId, 0L)) {
+            long now = System.nanoTime();
+            long expiresAt = now + properties.getTtl().toNanos();
+            entries.put(userId, new Entry(summary, Instant.now(), expiresAt,
+                    expiresAt + properties.getStaleTtl().toNanos(), false));
+        }
+        if (loadsInFlight == 0) {
+            invalidatedAt.clear();
+        }
+    }
+
+    public void invalidate(Long userId) {
+        evict(userId);
+
+        // Called from inside a write transaction: a reader may still load the pre-commit rows and cache them,
+        // so evict again once the transaction has finished
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    // The entry is kept, but only as a fallback for when a fresh summary can't be computed.
+    // Loads already in flight for the user may have read the old rows; later readers must not join them.
+    private synchronized void evict(Long userId) {
+        invalidatedAt.put(userId, ++invalidationClock);
+        if (invalidatedAt.size() > properties.getMaxEntries()) {
+            // Loads never finishing at once under heavy traffic: fall back to treating everyone as invalidated
+            allInvalidatedAt = invalidationClock;
+            invalidatedAt.clear();
+        }
+        Entry entry = entries.get(userId);
+        if (entry != null && !entry.invalidated) {
+            entries.put(userId, entry.invalidate());
+        }
+        readCoalescer.forgetUser(userId);
+    }
+
+    public synchronized void clear() {
+        allInvalidatedAt = ++invalidationClock;
+        invalidatedAt.clear();
+        entries.clear();
+        readCoalescer.forgetAll();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getStaleServed() {
+        return stale.get();
+    }
+
+    private record Entry(DashboardSummaryDTO summary, Instant computedAt, long expiresAt, long staleUntil,
+                         boolean invalidated) {
+
+        boolean isFresh(long now) {
+            return !invalidated && expiresAt - now > 0;
+        }
+
+        Entry invalidate() {
+            return new Entry(summary, computedAt, expiresAt, staleUntil, true);
+        }
+
+        DashboardSummaryDTO asStale() {
+            return summary.asStale(computedAt.toString());
+        }
+    }
+}
@@ -1,87 +1,251 @@
 package com.budgetbuddy.service;
 
+import com.budgetbuddy.config.DashboardBreakerProperties;
+import com.budgetbuddy.config.DashboardParallelProperties;
+import com.budgetbuddy.config.DashboardProperties;
 import com.budgetbuddy.dto.DashboardSummaryDTO;
 import com.budgetbuddy.entity.*;
 import com.budgetbuddy.repository.*;
+import com.budgetbuddy.util.CircuitBreaker;
+import com.budgetbuddy.util.MoneyUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 
 @Service
 public class DashboardService {
 
-    @Autowired private UserRepository userRepository;
     @Autowired private AccountRepository accountRepository;
     @Autowired private TransactionRepository transactionRepository;
+    @Autowired private MonthlyRollupRepository monthlyRollupRepository;
+    @Autowired private DashboardCache dashboardCache;
+    @Autowired private ReadCoalescer readCoalescer;
+    @Autowired private DashboardProperties dashboardProperties;
+    @Autowired private DashboardParallelProperties parallelProperties;
+    @Autowired @Qualifier("dashboardExecutor") private ExecutorService dashboardExecutor;
 
-    public DashboardSummaryDTO getDashboardSummary(String userEmail) {
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        // Total balance – Double → BigDecimal
-        BigDecimal totalBalance = accountRepository.findByUserId(user.getId()).stream().map(acc -> BigDecimal.valueOf(acc.getBalance()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        //  Recent transactions (last 10)
-        List<TransactionEntity> recentTxns = transactionRepository.findByUserIdOrderByDateDesc(user.getId()).stream().limit(10).toList();
-
-        List<DashboardSummaryDTO.TransactionSummary> recentSummary = recentTxns.stream()
-                .map(t -> {
-                    DashboardSummaryDTO.TransactionSummary s = new DashboardSummaryDTO.TransactionSummary();
-                    s.setId(t.getId());
-                    s.setAccountName(t.getAccount().getName());
-                    s.setAmount(BigDecimal.valueOf(t.getAmount())); 
-                    s.setType(t.getType().name().toLowerCase());
-                    s.setCategory(t.getCategory());
-                    s.setDate(t.getDate().toLocalDate().toString());
-                    return s;
-                }).toList();
-
-        // Monthly income/expense for current year
-        LocalDate yearStart = LocalDate.now().withDayOfYear(1);
-        List<TransactionEntity> yearTxns = transactionRepository.findByUserIdAndDateAfter(user.getId(), yearStart.atStartOfDay());
-
-        Map<YearMonth, BigDecimal> incomeByMonth = new TreeMap<>();
-        Map<YearMonth, BigDecimal> expenseByMonth = new TreeMap<>();
-
-        yearTxns.forEach(t -> {
-            YearMonth ym = YearMonth.from(t.getDate());
-            BigDecimal amount = BigDecimal.valueOf(t.getAmount());    
-            if (t.getType() == TransactionEntity.TransactionType.INCOME) {
-                incomeByMonth.merge(ym, amount, BigDecimal::add);
-            } else {
-                expenseByMonth.merge(ym, amount, BigDecimal::add);
+    private final TransactionTemplate readOnlyTx;
+    private final DashboardBreakerProperties breakerProperties;
+    private final CircuitBreaker breaker;
+
+    public DashboardService(PlatformTransactionManager transactionManager, DashboardBreakerProperties breakerProperties,
+                            MeterRegistry registry) {
+        // Opened per computation rather than around getDashboardSummary, so cache hits never touch the pool
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+
+        this.breakerProperties = breakerProperties;
+        this.breaker = new CircuitBreaker(breakerProperties.getWindowSize(), breakerProperties.getMinimumCalls(),
+                breakerProperties.getFailureRateThreshold(), breakerProperties.getSlowCallThreshold(),
+                breakerProperties.getOpenDuration());
+
+        // One gauge per state, 1 for the current one
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("dashboard.breaker.state", breaker, b -> b.getState() == state ? 1 : 0)
+                    .tag("state", state.name().toLowerCase()).register(registry);
+        }
+        FunctionCounter.builder("dashboard.breaker.calls", breaker, CircuitBreaker::getSuccessfulCalls)
+                .tag("outcome", "success").register(registry);
+        FunctionCounter.builder("dashboard.breaker.calls", breaker, CircuitBreaker::getFailedCalls)
+                .tag("outcome", "failure").register(registry);
+        FunctionCounter.builder("dashboard.breaker.calls", breaker, CircuitBreaker::getRejectedCalls)
+                .tag("outcome", "rejected").register(registry);
+    }
+
+    public DashboardSummaryDTO getDashboardSummary(Long userId) {
+        // On a miss, identical concurrent requests share one computation
+        return dashboardCache.get(userId, () -> readCoalescer.dashboardSummary(userId, () -> guardedSummary(userId)));
+    }
+
+    /**
+     * Reactive counterpart for ReactiveReadService: the same cache and breaker in front of a summary computed by
+     * the given Mono instead of the JDBC parts. An open breaker fails with ServiceBusyException.
+     */
+    public Mono<DashboardSummaryDTO> getDashboardSummary(Long userId, Mono<DashboardSummaryDTO> summary) {
+        return dashboardCache.getAsync(userId, guardedSummary(summary));
+    }
+
+    public CircuitBreaker.State getBreakerState() {
+        return breaker.getState();
+    }
+
+    // Fails fast while the breaker is open; DashboardCache then serves the last good summary if it has one
+    private DashboardSummaryDTO guardedSummary(Long userId) {
+        if (!breakerProperties.isEnabled()) {
+            return buildSummary(userId);
+        }
+        return breaker.call(() -> buildSummary(userId),
+                () -> new ServiceBusyException("Dashboard is temporarily unavailable, please retry shortly"));
+    }
+
+    private Mono<DashboardSummaryDTO> guardedSummary(Mono<DashboardSummaryDTO> summary) {
+        if (!breakerProperties.isEnabled()) {
+            return summary;
+        }
+        return Mono.defer(() -> {
+            CircuitBreaker.Call call = breaker.tryCall();
+            if (call == null) {
+                return Mono.error(new ServiceBusyException("Dashboard is temporarily unavailable, please retry shortly"));
             }
+            return summary.doOnSuccess(s -> call.succeeded())
+                    .doOnError(e -> call.failed())
+                    .doOnCancel(call::cancelled);
         });
+    }
+
+    private DashboardSummaryDTO buildSummary(Long userId) {
+        if (!parallelProperties.isEnabled()) {
+            return buildSummarySequential(userId);
+        }
+
+        // The four parts are independent, so run them side by side and wait for the slowest one
+        List<Future<?>> parts = new ArrayList<>();
+        try {
+            Future<BigDecimal> balanceFuture = submit(() -> totalBalance(userId), parts);
+            Future<List<DashboardSummaryDTO.TransactionSummary>> recentFuture = submit(() -> recentTransactions(userId), parts);
+            Future<List<DashboardSummaryDTO.MonthlyTotal>> monthlyFuture = submit(() -> monthlyTotals(userId), parts);
+            Future<List<DashboardSummaryDTO.CategorySpending>> categoryFuture = submit(() -> categorySpending(userId), parts);
+
+            long deadline = System.nanoTime() + parallelProperties.getTimeout().toNanos();
+            return new DashboardSummaryDTO(await(balanceFuture, deadline), await(recentFuture, deadline),
+                    await(monthlyFuture, deadline), await(categoryFuture, deadline));
+        } catch (RejectedExecutionException e) {
+            // Pool is saturated: don't queue behind other users, just do the work on this thread
+            cancelAll(parts);
+            return buildSummarySequential(userId);
+        } catch (TimeoutException e) {
+            // Interrupts the workers still running; a query that ignores the interrupt ends at its statement timeout
+            cancelAll(parts);
+            throw new ServiceBusyException("Dashboard summary timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            cancelAll(parts);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dashboard summary interrupted", e);
+        } catch (ExecutionException e) {
+            cancelAll(parts);
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Dashboard summary failed", e.getCause());
+        }
+    }
+
+    // One read-only transaction, so all four parts share a single connection
+    private DashboardSummaryDTO buildSummarySequential(Long userId) {
+        return readOnlyTx.execute(status -> new DashboardSummaryDTO(totalBalance(userId), recentTransactions(userId),
+                monthlyTotals(userId), categorySpending(userId)));
+    }
+
+    // Each part runs in its own read-only transaction on the worker thread. Submitted as a plain task rather than
+    // through CompletableFuture, whose cancel(true) never interrupts the thread running it.
+    private <T> Future<T> submit(Supplier<T> task, List<Future<?>> parts) {
+        Future<T> future = dashboardExecutor.submit(() -> readOnlyTx.execute(status -> task.get()));
+        parts.add(future);
+        return future;
+    }
+
+    private static <T> T await(Future<T> future, long deadline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private static void cancelAll(List<Future<?>> parts) {
+        parts.forEach(f -> f.cancel(true));
+    }
+
+    // Total balance, summed in cents by the database
+    private BigDecimal totalBalance(Long userId) {
+        return MoneyUtil.toDecimal(accountRepository.sumBalanceCentsByUserId(userId));
+    }
+
+    // Recent transactions (last N), fetched as a bounded projection
+    private List<DashboardSummaryDTO.TransactionSummary> recentTransactions(Long userId) {
+        return transactionRepository.findRecentByUserId(userId, PageRequest.of(0, dashboardProperties.getRecentTransactions())).stream()
+                .map(DashboardService::toTransactionSummary).toList();
+    }
+
+    static DashboardSummaryDTO.TransactionSummary toTransactionSummary(RecentTransactionView t) {
+        DashboardSummaryDTO.TransactionSummary s = new DashboardSummaryDTO.TransactionSummary();
+        s.setId(t.getId());
+        s.setAccountName(t.getAccountName());
+        s.setAmount(MoneyUtil.toDecimal(t.getAmountCents()));
+        s.setType(t.getType().name().toLowerCase());
+        s.setCategory(t.getCategory());
+        s.setDate(t.getDate().toLocalDate().toString());
+        return s;
+    }
+
+    // Monthly income/expense for current year, read from the pre-aggregated rollups
+    private List<DashboardSummaryDTO.MonthlyTotal> monthlyTotals(Long userId) {
+        return toMonthlyTotals(monthlyRollupRepository.sumTotalsByMonthAndType(userId, monthlyTotalsFrom()));
+    }
+
+    static LocalDate monthlyTotalsFrom() {
+        return LocalDate.now().withDayOfYear(1);
+    }
+
+    // Rows are (month start, type, cents)
+    static List<DashboardSummaryDTO.MonthlyTotal> toMonthlyTotals(List<Object[]> monthRows) {
+        // Cents per month, indexed by how many months ago; converted to decimals once at the end
+        YearMonth now = YearMonth.now();
+        long[] incomeByMonth = new long[12];
+        long[] expenseByMonth = new long[12];
+
+        for (Object[] row : monthRows) {
+            long monthsAgo = YearMonth.from((LocalDate) row[0]).until(now, ChronoUnit.MONTHS);
+            if (monthsAgo < 0 || monthsAgo >= 12) continue;
+            long cents = ((Number) row[2]).longValue();
+            if (row[1] == TransactionEntity.TransactionType.INCOME) {
+                incomeByMonth[(int) monthsAgo] += cents;
+            } else {
+                expenseByMonth[(int) monthsAgo] += cents;
+            }
+        }
 
         // Build the 12-month list (most recent first)
         List<DashboardSummaryDTO.MonthlyTotal> monthlyTotals = new ArrayList<>();
         for (int i = 11; i >= 0; i--) {
-            YearMonth ym = YearMonth.now().minusMonths(i);
             DashboardSummaryDTO.MonthlyTotal mt = new DashboardSummaryDTO.MonthlyTotal();
-            mt.setMonth(ym);
-            mt.setIncome(incomeByMonth.getOrDefault(ym, BigDecimal.ZERO));
-            mt.setExpense(expenseByMonth.getOrDefault(ym, BigDecimal.ZERO));
+            mt.setMonth(now.minusMonths(i));
+            mt.setIncome(MoneyUtil.toDecimal(incomeByMonth[i]));
+            mt.setExpense(MoneyUtil.toDecimal(expenseByMonth[i]));
             monthlyTotals.add(mt);
         }
+        return monthlyTotals;
+    }
+
+    // Category spending – last 6 months (rollups are monthly, so this covers the current month plus the 5 before it)
+    private List<DashboardSummaryDTO.CategorySpending> categorySpending(Long userId) {
+        return toCategorySpending(monthlyRollupRepository.sumExpenseByCategory(userId, categorySpendingFrom()));
+    }
 
-        // Category spending – last 6 months
-        LocalDate sixMonthsAgo = LocalDate.now().minusMonths(6);
-        List<Object[]> categoryTotals = transactionRepository
-                .sumAmountByCategoryForUserAndDateAfter(user.getId(), sixMonthsAgo.atStartOfDay());
+    static LocalDate categorySpendingFrom() {
+        return YearMonth.now().minusMonths(5).atDay(1);
+    }
 
-        List<DashboardSummaryDTO.CategorySpending> categorySpending = categoryTotals.stream()
+    // Rows are (category, cents)
+    static List<DashboardSummaryDTO.CategorySpending> toCategorySpending(List<Object[]> categoryTotals) {
+        return categoryTotals.stream()
                 .map(row -> {
                     DashboardSummaryDTO.CategorySpending cs = new DashboardSummaryDTO.CategorySpending();
                     cs.setCategory((String) row[0]);
-                    cs.setTotalSpent((BigDecimal) row[1]); 
+                    cs.setTotalSpent(MoneyUtil.toDecimal(((Number) row[1]).longValue()));
                     return cs;
                 }).sorted(Comparator.comparing(DashboardSummaryDTO.CategorySpending::getTotalSpent).reversed()).toList();
-
-        return new DashboardSummaryDTO(totalBalance, recentSummary, monthlyTotals, categorySpending);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,4 @@
+package com.budgetbuddy.service;
+
+/** Access token plus the refresh token that replaces it, as returned by login and refresh */
+public record IssuedTokens(String accessToken, String refreshToken, long expiresInSeconds) {}
@@ -0,0 +1,96 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on the dedicated password-hash pool, so a burst of logins costs a bounded number of cores.
+ * The request thread still waits for the result, for up to auth.password.timeout: the pool caps the CPU spent
+ * hashing, not the request threads parked on it, which is why the timeout is kept short. A full queue or a
+ * missed deadline throws ServiceBusyException (503).
+ * A timed-out hash still in the queue is dropped; one already running can't be stopped (BCrypt ignores
+ * interrupts) and finishes on the pool, its result discarded.
+ */
+@Component
+public class PasswordHasher {
+
+    // $2a$10$... -> cost 10
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abyx]?\\$(\\d{2})\\$");
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final PasswordHashingProperties properties;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(BCryptPasswordEncoder encoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolExecutor executor,
+                          PasswordHashingProperties properties,
+                          MeterRegistry registry) {
+        this.encoder = encoder;
+        this.executor = executor;
+        this.properties = properties;
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(registry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(registry);
+        this.rejected = Counter.builder("auth.password.rejected").register(registry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    // True when the stored hash was made with a different cost than the one configured now
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) return false;
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return m.find() && Integer.parseInt(m.group(1)) != properties.getBcryptStrength();
+    }
+
+    private <T> T run(Timer timer, Supplier<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(work));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many sign-in requests, please retry shortly");
+        }
+
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Only keeps a queued hash from starting; a running one can't be interrupted
+            future.cancel(false);
+            rejected.increment();
+            throw new ServiceBusyException("Too many sign-in requests, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -3,11 +3,11 @@ package com.budgetbuddy.service;
 import com.budgetbuddy.entity.UserEntity;
 import com.budgetbuddy.repository.UserRepository;
 
-import java.security.Principal;
-
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ProfileService {
@@ -16,14 +16,25 @@ public class ProfileService {
     private UserRepository userRepository;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    private final TransactionTemplate writeTx;
 
-    public UserEntity getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+    public ProfileService(PlatformTransactionManager transactionManager) {
+        this.writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public UserEntity getUser(Long userId) {
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
     }
 
-    public void updateName(String email, String firstName, String lastName) {
+    @Transactional
+    public void updateName(Long userId, String firstName, String lastName) {
         if (firstName == null || firstName.trim().isEmpty()) {
             throw new IllegalArgumentException("First name is required");
         }
@@ -31,13 +42,16 @@ public class ProfileService {
             throw new IllegalArgumentException("Last name is required");
         }
 
-        UserEntity user = getUserByEmail(email);
+        UserEntity user = getUser(userId);
         user.setFirstName(firstName.trim());
         user.setLastName(lastName.trim());
         userRepository.save(user);
     }
 
-    public void updateEmail(String currentEmail, String newEmail) {
+    // Looked up by id, not by the (about to be stale) email in the caller's token.
+    // Tokens carry the id, so they keep working after the change; the subject email is only informational.
+    @Transactional
+    public void updateEmail(Long userId, String newEmail) {
         if (newEmail == null || newEmail.trim().isEmpty()) {
             throw new IllegalArgumentException("Email is required");
         }
@@ -48,12 +62,12 @@ public class ProfileService {
             throw new IllegalArgumentException("Email is already in use");
         }
 
-        UserEntity user = getUserByEmail(currentEmail);
+        UserEntity user = getUser(userId);
         user.setEmail(newEmail.trim());
         userRepository.save(user);
     }
 
-    public void updatePassword(Principal principal, String currentPassword, String newPassword) {
+    public void updatePassword(Long userId, String currentPassword, String newPassword) {
         if (currentPassword == null || currentPassword.isEmpty()) {
             throw new IllegalArgumentException("Current password is required");
         }
@@ -61,12 +75,23 @@ public class ProfileService {
             throw new IllegalArgumentException("New password is required");
         }
 
-        UserEntity user = getUserByEmail(principal.getName());
-        if (!passwordEncoder.matches(currentPassword, user.getPasswordHash())) {
+        // BCrypt runs outside any transaction so no connection is held while hashing
+        String verifiedHash = getUser(userId).getPasswordHash();
+        if (!passwordHasher.matches(currentPassword, verifiedHash)) {
             throw new IllegalArgumentException("Current password is incorrect");
         }
+        String newHash = passwordHasher.encode(newPassword);
 
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        // Reloaded here and only the hash set, so a name or email change committed while hashing is kept
+        writeTx.executeWithoutResult(status -> {
+            UserEntity user = getUser(userId);
+            if (!user.getPasswordHash().equals(verifiedHash)) {
+                throw new IllegalArgumentException("Password was changed in the meantime, please try again");
+            }
+            user.setPasswordHash(newHash);
+
+            // Other sessions have to sign in again once their short-lived access token runs out
+            refreshTokenService.revokeAll(userId);
+        });
     }
 }
\ No newline at end of file
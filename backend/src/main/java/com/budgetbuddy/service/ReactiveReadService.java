@@ -0,0 +1,81 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.DashboardParallelProperties;
+import com.budgetbuddy.config.DashboardProperties;
+import com.budgetbuddy.dto.DashboardSummaryDTO;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.repository.ReactiveReadQueries;
+import com.budgetbuddy.util.MoneyUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Non-blocking counterparts of TransactionService.getTransactions and DashboardService.getDashboardSummary.
+ * Queries and row mapping are shared with those services; nothing here blocks a thread while the database works.
+ */
+@Service
+@ConditionalOnProperty(prefix = "reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveReadService {
+
+    private final ReactiveReadQueries queries;
+    private final DashboardService dashboardService;
+    private final DashboardProperties dashboardProperties;
+    private final DashboardParallelProperties parallelProperties;
+
+    public ReactiveReadService(ReactiveReadQueries queries, DashboardService dashboardService,
+                               DashboardProperties dashboardProperties, DashboardParallelProperties parallelProperties) {
+        this.queries = queries;
+        this.dashboardService = dashboardService;
+        this.dashboardProperties = dashboardProperties;
+        this.parallelProperties = parallelProperties;
+    }
+
+    /**
+     * One offset page, in the same order and with the same filter as getTransactions, emitted row by row.
+     * There are no totals or account table: those need the whole page (or a COUNT) before the first byte is sent.
+     */
+    public Flux<TransactionDTO> streamTransactions(Long userId, String category, String sortBy, int page, int limit) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        String filter = category != null && !category.trim().isEmpty() ? category.trim() : null;
+        return queries.findList(userId, filter, TransactionService.normalizeSortBy(sortBy), (long) page * limit, limit)
+                .map(TransactionService::toDTO);
+    }
+
+    /**
+     * Goes through DashboardService's cache and breaker like the MVC endpoint, but without ReadCoalescer.
+     * On a miss the four parts run one after another, so a request holds one R2DBC connection at a time.
+     * A timeout or an open breaker fails with ServiceBusyException.
+     */
+    public Mono<DashboardSummaryDTO> getDashboardSummary(Long userId) {
+        Mono<BigDecimal> balance = queries.sumBalanceCents(userId).map(MoneyUtil::toDecimal);
+        Mono<List<DashboardSummaryDTO.TransactionSummary>> recent = queries
+                .findRecent(userId, dashboardProperties.getRecentTransactions())
+                .map(DashboardService::toTransactionSummary).collectList();
+        Mono<List<DashboardSummaryDTO.MonthlyTotal>> monthly = queries
+                .sumTotalsByMonthAndType(userId, DashboardService.monthlyTotalsFrom()).collectList()
+                .map(DashboardService::toMonthlyTotals);
+        Mono<List<DashboardSummaryDTO.CategorySpending>> categories = queries
+                .sumExpenseByCategory(userId, DashboardService.categorySpendingFrom()).collectList()
+                .map(DashboardService::toCategorySpending);
+
+        // Each part is subscribed only after the previous one completed
+        Mono<DashboardSummaryDTO> summary = balance
+                .flatMap(b -> recent.flatMap(r -> monthly.flatMap(m -> categories.map(
+                        c -> new DashboardSummaryDTO(b, r, m, c)))))
+                .timeout(parallelProperties.getTimeout())
+                .onErrorMap(TimeoutException.class,
+                        e -> new ServiceBusyException("Dashboard summary timed out, please retry shortly"));
+        return dashboardService.getDashboardSummary(userId, summary);
+    }
+}
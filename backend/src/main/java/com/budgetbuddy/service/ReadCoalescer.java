@@ -0,0 +1,93 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.DashboardParallelProperties;
+import com.budgetbuddy.config.ReadCoalescingProperties;
+import com.budgetbuddy.dto.DashboardSummaryDTO;
+import com.budgetbuddy.dto.TransactionPageDTO;
+import com.budgetbuddy.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight load between identical concurrent dashboard or transaction-page reads
+ * (several tabs, frontend retries). Only running loads are shared, results are not kept.
+ * DashboardCache forgets a user's loads on every invalidation, so a read that starts after a write
+ * never joins a load that began before it. A caller waits on someone else's load no longer than
+ * dashboard.parallel.timeout, the deadline a dashboard gives its own queries, then gets ServiceBusyException.
+ */
+@Component
+public class ReadCoalescer {
+
+    private final ReadCoalescingProperties properties;
+    private final SingleFlight<Long, DashboardSummaryDTO> dashboards;
+    private final SingleFlight<PageKey, TransactionPageDTO> transactionPages;
+
+    public ReadCoalescer(ReadCoalescingProperties properties, DashboardParallelProperties parallelProperties,
+                         MeterRegistry registry) {
+        this.properties = properties;
+        this.dashboards = new SingleFlight<>(parallelProperties.getTimeout());
+        this.transactionPages = new SingleFlight<>(parallelProperties.getTimeout());
+
+        FunctionCounter.builder("reads.coalesced", dashboards, SingleFlight::getCollapsed)
+                .description("Calls answered by an identical call already in flight")
+                .tag("read", "dashboard").register(registry);
+        FunctionCounter.builder("reads.coalesced", transactionPages, SingleFlight::getCollapsed)
+                .description("Calls answered by an identical call already in flight")
+                .tag("read", "transactions").register(registry);
+        Gauge.builder("reads.in-flight", dashboards, SingleFlight::getInFlight)
+                .tag("read", "dashboard").register(registry);
+        Gauge.builder("reads.in-flight", transactionPages, SingleFlight::getInFlight)
+                .tag("read", "transactions").register(registry);
+    }
+
+    public DashboardSummaryDTO dashboardSummary(Long userId, Supplier<DashboardSummaryDTO> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        try {
+            return dashboards.execute(userId, loader);
+        } catch (TimeoutException e) {
+            throw new ServiceBusyException("Dashboard summary timed out, please retry shortly");
+        }
+    }
+
+    // Parameters are normalized the way TransactionService applies them, so equivalent requests share a load
+    public TransactionPageDTO transactionPage(Long userId, String category, String sortBy, int page, int limit,
+                                              Supplier<TransactionPageDTO> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        String filter = category != null && !category.trim().isEmpty() ? category.trim() : null;
+        PageKey key = new PageKey(userId, filter, TransactionService.normalizeSortBy(sortBy), page, limit);
+        try {
+            return transactionPages.execute(key, loader);
+        } catch (TimeoutException e) {
+            throw new ServiceBusyException("Transactions are taking too long, please retry shortly");
+        }
+    }
+
+    public void forgetUser(Long userId) {
+        dashboards.forget(userId);
+        transactionPages.forgetIf(key -> key.userId().equals(userId));
+    }
+
+    public void forgetAll() {
+        dashboards.forgetAll();
+        transactionPages.forgetAll();
+    }
+
+    public long getCollapsedDashboards() {
+        return dashboards.getCollapsed();
+    }
+
+    public long getCollapsedTransactionPages() {
+        return transactionPages.getCollapsed();
+    }
+
+    private record PageKey(Long userId, String category, String sortBy, int page, int limit) {}
+}
@@ -0,0 +1,120 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.JwtProperties;
+import com.budgetbuddy.entity.RefreshTokenEntity;
+import com.budgetbuddy.repository.RefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opaque, single-use refresh tokens. Refreshing is a hash lookup and a conditional update, never BCrypt.
+ * Presenting a token that was already used means it was copied, so every session of that user is revoked,
+ * unless it was rotated moments ago: tabs of one browser share the token and can both try to refresh with it.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties properties;
+    private final ScheduledExecutorService scheduler;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtProperties properties,
+                               @Qualifier("tokenMaintenanceScheduler") ScheduledExecutorService scheduler) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.properties = properties;
+        this.scheduler = scheduler;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refreshTokenRepository.deleteExpired(Instant.now());
+            } catch (Exception e) {
+                logger.warn("Could not delete expired refresh tokens", e);
+            }
+        }, 1, 60, TimeUnit.MINUTES);
+    }
+
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setUserId(userId);
+        entity.setTokenHash(hash(token));
+        entity.setExpiresAt(Instant.now().plus(properties.getRefreshTokenTtl()));
+        refreshTokenRepository.save(entity);
+        return token;
+    }
+
+    /** Consumes the token and returns its user id; the caller issues the replacement */
+    public Long consume(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Refresh token is required");
+        }
+        RefreshTokenEntity entity = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        Instant now = Instant.now();
+        if (entity.isRevoked() && entity.getRotatedAt() == null) {
+            // Revoked by logout or revokeAll, never traded: a replay (another tab refreshing after logout)
+            // is refused but isn't a sign of theft
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        if (entity.isRevoked() || refreshTokenRepository.rotate(entity.getId(), now) == 0) {
+            // Losing the compare-and-set means another request used the token just now
+            Instant rotatedAt = entity.isRevoked() ? entity.getRotatedAt() : now;
+            if (rotatedAt != null && now.isBefore(rotatedAt.plus(properties.getRefreshReuseGrace()))) {
+                throw new IllegalArgumentException("Refresh token was already used");
+            }
+            refreshTokenRepository.revokeAllByUserId(entity.getUserId());
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        if (entity.getExpiresAt().isBefore(now)) {
+            throw new IllegalArgumentException("Refresh token has expired");
+        }
+        return entity.getUserId();
+    }
+
+    public void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .ifPresent(entity -> refreshTokenRepository.revoke(entity.getId()));
+    }
+
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    // Hex SHA-256; the token is 256 random bits, so no salt or slow hash is needed
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.entity.MonthlyRollupEntity;
+import com.budgetbuddy.entity.TransactionEntity;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
+import com.budgetbuddy.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps the monthly_rollups table in step with the transactions table.
+ * TransactionService calls record/unrecord on every write; rebuild regenerates everything from raw rows.
+ */
+@Service
+public class RollupService {
+
+    @Autowired
+    private MonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String CREATE_BUCKET_SQL = """
+        INSERT INTO monthly_rollups (user_id, month_start, type, category, total_cents, txn_count)
+        VALUES (?, ?, ?, ?, 0, 0)
+        """;
+
+    // Add a transaction's amount to its bucket
+    public void record(TransactionEntity t) {
+        adjust(t.getUser().getId(), t.getDate(), t.getType(), t.getCategory(), t.getAmountCents(), 1);
+    }
+
+    // Remove a transaction's amount from its bucket (delete, or the "before" side of an update)
+    public void unrecord(Long userId, LocalDateTime date, TransactionEntity.TransactionType type,
+                         String category, long amountCents) {
+        adjust(userId, date, type, category, -amountCents, -1);
+    }
+
+    private void adjust(Long userId, LocalDateTime date, TransactionEntity.TransactionType type,
+                        String category, long amountCents, long countDelta) {
+        add(userId, date.toLocalDate().withDayOfMonth(1), type, category, amountCents, countDelta);
+    }
+
+    // Apply an already-aggregated delta to one bucket (bulk paths such as imports).
+    // Increments happen in the database, so concurrent writers to the same bucket never lose updates.
+    public void add(Long userId, LocalDate monthStart, TransactionEntity.TransactionType type,
+                    String category, long amountCents, long countDelta) {
+        if (rollupRepository.increment(userId, monthStart, type, category, amountCents, countDelta) == 0) {
+            createBucket(userId, monthStart, type, category);
+            rollupRepository.increment(userId, monthStart, type, category, amountCents, countDelta);
+        }
+
+        // Drop empty buckets so the table only holds months that actually have activity
+        if (countDelta < 0) {
+            rollupRepository.deleteIfEmpty(userId, monthStart, type, category);
+        }
+    }
+
+    // Insert an empty bucket behind a savepoint on the caller's connection; losing the race to another writer is fine.
+    // Plain JDBC so a duplicate key never reaches the Hibernate session and marks the outer transaction rollback-only.
+    // The savepoint is taken by hand: JpaTransactionManager can't create one (PROPAGATION_NESTED) with Hibernate.
+    private void createBucket(Long userId, LocalDate monthStart, TransactionEntity.TransactionType type, String category) {
+        ConnectionHolder holder = TransactionSynchronizationManager.isActualTransactionActive()
+                ? (ConnectionHolder) TransactionSynchronizationManager.getResource(jdbcTemplate.getDataSource())
+                : null;
+        if (holder == null) {
+            // Auto-commit: a failed insert can't poison anything
+            insertBucket(userId, monthStart, type, category);
+            return;
+        }
+
+        try {
+            Savepoint savepoint = holder.createSavepoint();
+            if (!insertBucket(userId, monthStart, type, category)) {
+                holder.getConnection().rollback(savepoint);
+            }
+            holder.getConnection().releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            throw new TransactionSystemException("Could not use a savepoint for the rollup insert", e);
+        }
+    }
+
+    // False if the bucket was created concurrently (unique key); the caller's increment will hit it
+    private boolean insertBucket(Long userId, LocalDate monthStart, TransactionEntity.TransactionType type, String category) {
+        try {
+            jdbcTemplate.update(CREATE_BUCKET_SQL, userId, monthStart, type.name(), category);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    // Regenerate one user's rollups from the raw transactions table
+    @Transactional
+    public int rebuildForUser(Long userId) {
+        rollupRepository.deleteByUserId(userId);
+
+        List<Object[]> rows = transactionRepository.aggregateMonthlyRollupsForUser(userId);
+        for (Object[] row : rows) {
+            MonthlyRollupEntity r = new MonthlyRollupEntity();
+            r.setUserId((Long) row[0]);
+            r.setMonthStart(LocalDate.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue(), 1));
+            r.setType((TransactionEntity.TransactionType) row[3]);
+            r.setCategory((String) row[4]);
+            r.setTotalCents(((Number) row[5]).longValue());
+            r.setTxnCount(((Number) row[6]).longValue());
+            rollupRepository.save(r);
+        }
+        return rows.size();
+    }
+
+    // Regenerate rollups for every user that has transactions
+    @Transactional
+    public int rebuildAll() {
+        rollupRepository.deleteAllInBatch();
+
+        int total = 0;
+        for (Long userId : transactionRepository.findDistinctUserIds()) {
+            total += rebuildForUser(userId);
+        }
+        return total;
+    }
+}
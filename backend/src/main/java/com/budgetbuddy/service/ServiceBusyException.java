@@ -0,0 +1,9 @@
+package com.budgetbuddy.service;
+
+/** Work was shed because a bounded pool was full or too slow; controllers answer 503 so clients retry later */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
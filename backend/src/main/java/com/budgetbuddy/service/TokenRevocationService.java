@@ -0,0 +1,125 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.JwtProperties;
+import com.budgetbuddy.entity.RevokedTokenEntity;
+import com.budgetbuddy.repository.RevokedTokenRepository;
+import com.budgetbuddy.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revocation list for access tokens, checked on every authenticated request.
+ * A Bloom filter of revoked jtis sits in front of the revoked_tokens table, so the usual
+ * "not revoked" answer is a few memory reads; only filter hits (real or false positive) query the database.
+ * The filter is rebuilt from the table periodically, which also drops expired entries and
+ * picks up revocations made by other instances.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtProperties properties;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile BloomFilter filter;
+    private final ReentrantLock filterLock = new ReentrantLock();
+
+    private final Counter filterNegatives;
+    private final Counter databaseChecks;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  JwtProperties properties,
+                                  @Qualifier("tokenMaintenanceScheduler") ScheduledExecutorService scheduler,
+                                  MeterRegistry registry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.scheduler = scheduler;
+        this.filter = newFilter(0);
+
+        this.filterNegatives = Counter.builder("auth.token.revocation.checks").tag("path", "filter").register(registry);
+        this.databaseChecks = Counter.builder("auth.token.revocation.checks").tag("path", "database").register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        reload();
+        long interval = properties.getRevocationReloadInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                reload();
+            } catch (Exception e) {
+                logger.warn("Could not reload token revocation list", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /** Tokens without a jti predate revocation support and can't be revoked */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (!filter.mightContain(tokenId)) {
+            filterNegatives.increment();
+            return false;
+        }
+        databaseChecks.increment();
+        return revokedTokenRepository.existsById(tokenId);
+    }
+
+    /** Filter-only part of isRevoked: false means definitely not revoked, and no database call is made */
+    public boolean mightBeRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId);
+    }
+
+    // Serialized with reload so a revocation can't land in a filter that is about to be replaced.
+    // A lock, not synchronized: the database call inside would pin a virtual thread's carrier.
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        filterLock.lock();
+        try {
+            revokedTokenRepository.save(new RevokedTokenEntity(tokenId, expiresAt));
+            filter.add(tokenId);
+            if (filter.isSaturated()) {
+                reload();
+            }
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    public void reload() {
+        filterLock.lock();
+        try {
+            Instant now = Instant.now();
+            revokedTokenRepository.deleteExpired(now);
+            List<String> active = revokedTokenRepository.findActiveJtis(now);
+
+            BloomFilter fresh = newFilter(active.size());
+            active.forEach(fresh::add);
+            filter = fresh;
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    // Sized for the configured load, or twice the current one if revocations have outgrown it
+    private BloomFilter newFilter(int currentEntries) {
+        long expected = Math.max(properties.getRevocationExpectedEntries(), 2L * currentEntries);
+        return new BloomFilter(Math.max(1, expected), properties.getRevocationFalsePositiveRate());
+    }
+}
@@ -0,0 +1,149 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.repository.TransactionExportView;
+import com.budgetbuddy.repository.TransactionRepository;
+import com.budgetbuddy.util.MoneyUtil;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams a user's transactions straight from a database cursor to an OutputStream.
+ * Rows are written as they are fetched, so memory use does not depend on how many there are.
+ */
+@Service
+public class TransactionExportService {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnlyTx;
+
+    public TransactionExportService(PlatformTransactionManager transactionManager) {
+        // Stream results need an open transaction; PostgreSQL also only honours fetch size inside one
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public enum Format { CSV, NDJSON }
+
+    // Resolve the filters up front so bad input fails before any bytes are written
+    public Export prepare(Long userId, String format, String category, String from, String to) {
+        Format f;
+        try {
+            f = Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Format must be 'csv' or 'ndjson'");
+        }
+
+        String categoryFilter = category != null ? category.trim() : "";
+        LocalDateTime fromDate = from != null && !from.isBlank()
+                ? TransactionService.parseDate(from.trim()) : LocalDateTime.of(1900, 1, 1, 0, 0);
+        // 'to' is inclusive for callers, exclusive in the query
+        LocalDateTime toDate = to != null && !to.isBlank()
+                ? TransactionService.parseDate(to.trim()).plusDays(1) : LocalDateTime.of(9999, 1, 1, 0, 0);
+
+        return new Export(userId, f, categoryFilter, fromDate, toDate);
+    }
+
+    public record Export(Long userId, Format format, String category, LocalDateTime from, LocalDateTime to) {}
+
+    public long write(Export export, OutputStream out) {
+        Long rows = readOnlyTx.execute(status -> {
+            try (Stream<TransactionExportView> stream = transactionRepository.streamForExport(
+                    export.userId(), export.category(), export.from(), export.to())) {
+                return export.format() == Format.CSV
+                        ? writeCsv(stream.iterator(), out)
+                        : writeNdjson(stream.iterator(), out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private long writeCsv(Iterator<TransactionExportView> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,accountId,accountName,amount,type,category,date,description\n");
+
+        long count = 0;
+        while (rows.hasNext()) {
+            TransactionExportView t = rows.next();
+            writer.write(String.valueOf(t.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(t.getAccountId()));
+            writer.write(',');
+            writeCsvField(writer, t.getAccountName());
+            writer.write(',');
+            writer.write(MoneyUtil.format(t.getAmountCents()));
+            writer.write(',');
+            writer.write(t.getType().name().toLowerCase());
+            writer.write(',');
+            writeCsvField(writer, t.getCategory());
+            writer.write(',');
+            writer.write(t.getDate().toLocalDate().toString());
+            writer.write(',');
+            writeCsvField(writer, t.getDescription());
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<TransactionExportView> rows, OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        // NDJSON: one object per line, no enclosing array
+        json.setRootValueSeparator(null);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            TransactionExportView t = rows.next();
+            json.writeStartObject();
+            json.writeNumberField("id", t.getId());
+            json.writeNumberField("accountId", t.getAccountId());
+            json.writeStringField("accountName", t.getAccountName());
+            json.writeNumberField("amount", MoneyUtil.toDecimal(t.getAmountCents()));
+            json.writeStringField("type", t.getType().name().toLowerCase());
+            json.writeStringField("category", t.getCategory());
+            json.writeStringField("date", t.getDate().toLocalDate().toString());
+            json.writeStringField("description", t.getDescription());
+            json.writeEndObject();
+            json.writeRaw('\n');
+            count++;
+        }
+        json.flush();
+        return count;
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,306 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.dto.ImportResultDTO;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.TransactionEntity;
+import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.UserRepository;
+import com.budgetbuddy.util.MoneyUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Bulk import of CSV or OFX bank history.
+ * The upload is read line by line, rows are validated with the same rules as TransactionService and
+ * inserted through TransactionService.saveAll as JDBC batches. Each batch commits in its own transaction
+ * together with its balance and rollup changes, so no connection is held while the client is still sending,
+ * and an upload that breaks off leaves only complete batches behind, with balances and rollups matching them.
+ */
+@Service
+public class TransactionImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    private final TransactionTemplate batchTx;
+
+    public TransactionImportService(PlatformTransactionManager transactionManager) {
+        this.batchTx = new TransactionTemplate(transactionManager);
+    }
+
+    // CSV with a header row: accountId,amount,type,category,date[,description]
+    // accountId may be left out of the file and passed as defaultAccountId instead
+    public ImportResultDTO importCsv(Long userId, InputStream in, Long defaultAccountId) throws IOException {
+        ImportRun run = new ImportRun(userId);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = splitCsvLine(headerLine);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase().replace("_", ""), i);
+        }
+        for (String required : List.of("amount", "type", "category", "date")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing column: " + required);
+            }
+        }
+
+        long lineNo = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) continue;
+
+            try {
+                List<String> fields = splitCsvLine(line);
+                TransactionDTO dto = new TransactionDTO();
+                String accountId = field(fields, columns, "accountid");
+                dto.setAccountId(accountId != null ? parseLong(accountId) : defaultAccountId);
+                dto.setAmount(MoneyUtil.toDecimal(MoneyUtil.parseCents(field(fields, columns, "amount"))));
+                dto.setType(field(fields, columns, "type"));
+                dto.setCategory(field(fields, columns, "category"));
+                dto.setDate(field(fields, columns, "date"));
+                dto.setDescription(field(fields, columns, "description"));
+                run.accept(dto);
+            } catch (IllegalArgumentException e) {
+                run.reject(lineNo, e.getMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    // OFX/QFX statement: every <STMTTRN> block becomes one transaction on the given account.
+    // OFX has no categories, so all rows get the given category; negative TRNAMT means expense.
+    public ImportResultDTO importOfx(Long userId, InputStream in, Long accountId, String category) throws IOException {
+        if (accountId == null) {
+            throw new IllegalArgumentException("Account ID is required");
+        }
+        String rowCategory = category != null && !category.isBlank() ? category : "Uncategorized";
+
+        ImportRun run = new ImportRun(userId);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        Map<String, String> current = null;
+        long blockStart = 0;
+        long lineNo = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            // SGML-style OFX puts one tag per line, XML-style may put several on one; split on '<' to handle both
+            for (String token : line.split("<")) {
+                int close = token.indexOf('>');
+                if (close < 0) continue;
+                String tag = token.substring(0, close).trim().toUpperCase();
+                String value = token.substring(close + 1).trim();
+
+                if (tag.equals("STMTTRN")) {
+                    current = new HashMap<>();
+                    blockStart = lineNo;
+                } else if (tag.equals("/STMTTRN") && current != null) {
+                    try {
+                        run.accept(ofxToDto(current, accountId, rowCategory));
+                    } catch (IllegalArgumentException e) {
+                        run.reject(blockStart, e.getMessage());
+                    }
+                    current = null;
+                } else if (current != null && !tag.startsWith("/")) {
+                    current.put(tag, value);
+                }
+            }
+        }
+        return run.finish();
+    }
+
+    private TransactionDTO ofxToDto(Map<String, String> fields, Long accountId, String category) {
+        long amountCents = MoneyUtil.parseCents(fields.get("TRNAMT"));
+        String posted = fields.get("DTPOSTED");
+        if (posted == null || posted.length() < 8) {
+            throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD");
+        }
+
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAccountId(accountId);
+        dto.setAmount(MoneyUtil.toDecimal(Math.abs(amountCents)));
+        dto.setType(amountCents < 0 ? "expense" : "income");
+        dto.setCategory(category);
+        dto.setDate(posted.substring(0, 4) + "-" + posted.substring(4, 6) + "-" + posted.substring(6, 8));
+        String name = fields.get("NAME");
+        String memo = fields.get("MEMO");
+        dto.setDescription(name != null ? name : memo);
+        return dto;
+    }
+
+    /** State for one import: pending batch with its per-account balance deltas and per-bucket rollup deltas */
+    private class ImportRun {
+        private final long startNanos = System.nanoTime();
+        private final Long userId;
+        private final Map<Long, AccountEntity> accounts = new HashMap<>();
+        private final List<TransactionEntity> batch = new ArrayList<>(BATCH_SIZE);
+        private final Map<Long, long[]> balanceDeltas = new HashMap<>();
+        private final Map<RollupKey, long[]> rollupDeltas = new HashMap<>();
+        private final ImportResultDTO result = new ImportResultDTO();
+        private final LocalDateTime now = LocalDateTime.now();
+
+        ImportRun(Long userId) {
+            this.userId = userId;
+            // One query for all of the user's accounts instead of a lookup per row
+            accountRepository.findByUserId(userId).forEach(a -> accounts.put(a.getId(), a));
+        }
+
+        void accept(TransactionDTO dto) {
+            TransactionService.validateCommonFields(dto);
+            LocalDateTime date = TransactionService.parseDate(dto.getDate().trim());
+            if (!accounts.containsKey(dto.getAccountId())) {
+                throw new IllegalArgumentException("You can only add transactions to your own accounts");
+            }
+            TransactionEntity.TransactionType type = TransactionEntity.TransactionType.valueOf(dto.getType().toUpperCase());
+            String category = dto.getCategory().trim();
+            String description = dto.getDescription() != null ? dto.getDescription().trim() : null;
+
+            long amountCents = MoneyUtil.toCents(dto.getAmount());
+            TransactionEntity t = new TransactionEntity();
+            t.setAccount(accounts.get(dto.getAccountId()));
+            t.setAmountCents(amountCents);
+            t.setType(type);
+            t.setCategory(category);
+            t.setDate(date);
+            t.setDescription(description);
+            t.setCreatedAt(now);
+            batch.add(t);
+
+            // Running totals are mutable long cells, so summing a row doesn't box or allocate
+            balanceDeltas.computeIfAbsent(dto.getAccountId(), k -> new long[1])[0] +=
+                    type == TransactionEntity.TransactionType.EXPENSE ? -amountCents : amountCents;
+
+            long[] bucket = rollupDeltas.computeIfAbsent(
+                    new RollupKey(date.toLocalDate().withDayOfMonth(1), type, category), k -> new long[2]);
+            bucket[0] += amountCents;
+            bucket[1] += 1;
+
+            result.setImported(result.getImported() + 1);
+            if (batch.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new ImportResultDTO.RowError(line, message));
+            }
+        }
+
+        // The rows, balances and rollups of one batch commit or roll back together
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            batchTx.executeWithoutResult(status -> {
+                UserEntity user = userRepository.getReferenceById(userId);
+                batch.forEach(t -> t.setUser(user));
+                transactionService.saveAll(batch);
+
+                // One balance adjustment per account, however many rows of the batch touched it.
+                // Through the repository rather than plain JDBC so the cached account rows are evicted.
+                balanceDeltas.forEach((accountId, delta) -> accountRepository.adjustBalance(accountId, delta[0]));
+
+                rollupDeltas.forEach((key, totals) ->
+                        rollupService.add(userId, key.monthStart(), key.type(), key.category(), totals[0], totals[1]));
+
+                dashboardCache.invalidate(userId);
+            });
+            batch.clear();
+            balanceDeltas.clear();
+            rollupDeltas.clear();
+        }
+
+        ImportResultDTO finish() {
+            flush();
+
+            result.setRowsRead(result.getImported() + result.getFailed());
+            long elapsedNanos = System.nanoTime() - startNanos;
+            result.setElapsedMs(elapsedNanos / 1_000_000);
+            result.setRowsPerSecond(elapsedNanos > 0 ? result.getRowsRead() * 1_000_000_000L / elapsedNanos : 0);
+            return result;
+        }
+    }
+
+    private record RollupKey(LocalDate monthStart, TransactionEntity.TransactionType type, String category) {}
+
+    // Helpers
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) return null;
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid account ID");
+        }
+    }
+
+    // Minimal RFC 4180 field splitting: commas, double-quoted fields, "" as an escaped quote
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
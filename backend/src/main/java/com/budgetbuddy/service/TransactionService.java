@@ -1,21 +1,40 @@
 package com.budgetbuddy.service;
 
+import com.budgetbuddy.dto.AccountDTO;
+import com.budgetbuddy.dto.CursorPageDTO;
 import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.dto.TransactionPageDTO;
 import com.budgetbuddy.entity.*;
 import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.RecentTransactionView;
+import com.budgetbuddy.repository.TransactionListView;
 import com.budgetbuddy.repository.TransactionRepository;
 import com.budgetbuddy.repository.UserRepository;
+import com.budgetbuddy.util.CursorUtil;
+import com.budgetbuddy.util.MoneyUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class TransactionService {
 
+    private static final int MAX_RECENT_LIMIT = 100;
+
     @Autowired
     private TransactionRepository transactionRepository;
 
@@ -25,132 +44,303 @@ public class TransactionService {
     @Autowired
     private AccountRepository accountRepository;
 
-    // GET with filtering, sorting, pagination
-    public Page<TransactionEntity> getTransactions(String userEmail,
-                                                   String category,
-                                                   String sortBy,
-                                                   int page,
-                                                   int limit) {
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        Sort sort = Sort.by(Sort.Direction.DESC, "date"); // default date_desc
-        if (sortBy != null) {
-            switch (sortBy.toLowerCase()) {
-                case "date_asc" -> sort = Sort.by(Sort.Direction.ASC, "date");
-                case "amount_desc" -> sort = Sort.by(Sort.Direction.DESC, "amount");
-                case "amount_asc" -> sort = Sort.by(Sort.Direction.ASC, "amount");
-            }
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    private ReadCoalescer readCoalescer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTx;
+
+    public TransactionService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    // GET with filtering, sorting, pagination. Identical concurrent calls share one load; its transaction
+    // is opened inside the shared load, so callers waiting on it don't hold a connection.
+    public TransactionPageDTO getTransactions(Long userId,
+                                              String category,
+                                              String sortBy,
+                                              int page,
+                                              int limit) {
+        return readCoalescer.transactionPage(userId, category, sortBy, page, limit,
+                () -> readOnlyTx.execute(status -> loadTransactions(userId, category, sortBy, page, limit)));
+    }
+
+    private TransactionPageDTO loadTransactions(Long userId, String category, String sortBy, int page, int limit) {
+        Pageable pageable = PageRequest.of(page, limit, resolveSort(normalizeSortBy(sortBy)));
+
+        Page<TransactionListView> rows;
+        if (category != null && !category.trim().isEmpty()) {
+            rows = transactionRepository.findListByUserIdAndCategory(userId, category.trim(), pageable);
+        } else {
+            rows = transactionRepository.findListByUserId(userId, pageable);
         }
 
-        Pageable pageable = PageRequest.of(page, limit, sort);
+        List<TransactionDTO> content = rows.getContent().stream().map(TransactionService::toDTO).toList();
+        return new TransactionPageDTO(content, accountsFor(content), rows.getNumber(), rows.getSize(),
+                rows.getTotalElements(), rows.getTotalPages());
+    }
+
+    // GET with filtering and sorting, keyset (cursor) pagination - no COUNT query, constant cost per page
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TransactionDTO> getTransactionsByCursor(Long userId,
+                                                               String category,
+                                                               String sortBy,
+                                                               String cursor,
+                                                               int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+
+        String sortKey = normalizeSortBy(sortBy);
+        Sort sort = resolveSort(sortKey);
+        String sortProperty = sortKey.startsWith("amount") ? "amountCents" : "date";
+
+        // No cursor means the first page
+        boolean forward = true;
+        ScrollPosition position = ScrollPosition.keyset();
+        if (cursor != null && !cursor.isBlank()) {
+            CursorUtil.Cursor c = CursorUtil.decode(cursor);
+            if (!c.sortBy().equals(sortKey)) {
+                throw new IllegalArgumentException("Cursor does not match sortBy");
+            }
+            forward = c.forward();
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(sortProperty, parseSortValue(sortProperty, c.sortValue()));
+            keys.put("id", c.id());
+            position = forward ? ScrollPosition.forward(keys) : ScrollPosition.backward(keys);
+        }
 
+        Window<TransactionListView> window;
         if (category != null && !category.trim().isEmpty()) {
-            return transactionRepository.findByUserIdAndCategoryContainingIgnoreCase(
-                    user.getId(), category.trim(), pageable);
+            window = transactionRepository.findListByUserIdAndCategoryContainingIgnoreCase(
+                    userId, category.trim(), position, sort, Limit.of(limit));
         } else {
-            return transactionRepository.findByUserId(user.getId(), pageable);
+            window = transactionRepository.findListByUserId(userId, position, sort, Limit.of(limit));
+        }
+
+        List<TransactionListView> content = window.getContent();
+        if (content.isEmpty()) {
+            return new CursorPageDTO<>(List.of(), Map.of(), null, null);
+        }
+
+        // window.hasNext() means "more rows in the direction we scrolled"
+        boolean hasAfter = forward ? window.hasNext() : true;
+        boolean hasBefore = forward ? !position.isInitial() : window.hasNext();
+
+        TransactionListView first = content.get(0);
+        TransactionListView last = content.get(content.size() - 1);
+        String next = hasAfter ? CursorUtil.encode(new CursorUtil.Cursor(
+                sortKey, true, sortValueOf(sortProperty, last), last.getId())) : null;
+        String prev = hasBefore ? CursorUtil.encode(new CursorUtil.Cursor(
+                sortKey, false, sortValueOf(sortProperty, first), first.getId())) : null;
+
+        List<TransactionDTO> rows = content.stream().map(TransactionService::toDTO).toList();
+        return new CursorPageDTO<>(rows, accountsFor(rows), next, prev);
+    }
+
+    // GET most recent N (recent-activity widgets)
+    @Transactional(readOnly = true)
+    public List<RecentTransactionView> getRecentTransactions(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_RECENT_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RECENT_LIMIT);
         }
+        return transactionRepository.findRecentByUserId(userId, PageRequest.of(0, limit));
     }
 
-    // CREATE
-    public TransactionEntity createTransaction(String userEmail, TransactionDTO dto) {
+    // CREATE - balance, row and rollup commit together or not at all
+    @Transactional
+    public TransactionEntity createTransaction(Long userId, TransactionDTO dto) {
         validateCommonFields(dto);
 
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
         AccountEntity account = accountRepository.findById(dto.getAccountId())
                 .orElseThrow(() -> new IllegalArgumentException("Account not found"));
-        if (!account.getUser().getId().equals(user.getId())) {
+        if (!account.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("You can only add transactions to your own accounts");
         }
 
         LocalDateTime date = parseDate(dto.getDate());
 
-        // Update balance
-        double adjustment = dto.getType().equals("expense") ? -dto.getAmount() : dto.getAmount();
-        account.setBalance(account.getBalance() + adjustment);
-        accountRepository.save(account);
+        // Update balance (atomic increment in the database, not read-modify-write)
+        long amountCents = MoneyUtil.toCents(dto.getAmount());
+        long adjustment = dto.getType().equalsIgnoreCase("expense") ? -amountCents : amountCents;
+        accountRepository.adjustBalance(account.getId(), adjustment);
 
         TransactionEntity t = new TransactionEntity();
         t.setAccount(account);
-        t.setUser(user);
-        t.setAmount(dto.getAmount());
+        t.setUser(userRepository.getReferenceById(userId));
+        t.setAmountCents(amountCents);
         t.setType(TransactionEntity.TransactionType.valueOf(dto.getType().toUpperCase()));
         t.setCategory(dto.getCategory().trim());
         t.setDate(date);
         if (dto.getDescription() != null) t.setDescription(dto.getDescription().trim());
 
-        return transactionRepository.save(t);
+        TransactionEntity saved = transactionRepository.save(t);
+        rollupService.record(saved);
+        dashboardCache.invalidate(userId);
+        return saved;
     }
 
-    // UPDATE
-    public TransactionEntity updateTransaction(String userEmail, Long transactionId, TransactionDTO dto) {
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    // BULK - plain inserts of already-validated rows, sent as JDBC batches with ids from the pooled sequence.
+    // Balances and rollups are left to the caller, which aggregates them per account/bucket.
+    @Transactional
+    public void saveAll(List<TransactionEntity> rows) {
+        transactionRepository.saveAll(rows);
+
+        // Write the batch now and detach it, so a long import doesn't grow the persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
 
+    // UPDATE
+    @Transactional
+    public TransactionEntity updateTransaction(Long userId, Long transactionId, TransactionDTO dto) {
         TransactionEntity t = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
-        if (!t.getUser().getId().equals(user.getId())) {
+        if (!t.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("You can only update your own transactions");
         }
 
-        // Revert old balance effect
-        double oldAdjustment = t.getType() == TransactionEntity.TransactionType.EXPENSE
-                ? -t.getAmount() : t.getAmount();
-        t.getAccount().setBalance(t.getAccount().getBalance() - oldAdjustment);
+        // Remember the old rollup bucket before the fields are overwritten
+        LocalDateTime oldDate = t.getDate();
+        TransactionEntity.TransactionType oldType = t.getType();
+        String oldCategory = t.getCategory();
+        long oldAmountCents = t.getAmountCents();
+
+        // Old balance effect, reverted below
+        Long oldAccountId = t.getAccount().getId();
+        long oldAdjustment = t.getType() == TransactionEntity.TransactionType.EXPENSE
+                ? -t.getAmountCents() : t.getAmountCents();
 
         // Apply new values where provided
         if (dto.getAccountId() != null) {
             AccountEntity newAccount = accountRepository.findById(dto.getAccountId())
                     .orElseThrow(() -> new IllegalArgumentException("Account not found"));
-            if (!newAccount.getUser().getId().equals(user.getId())) {
+            if (!newAccount.getUser().getId().equals(userId)) {
                 throw new IllegalArgumentException("You can only move to your own accounts");
             }
             if (!newAccount.getId().equals(t.getAccount().getId())) {
                 t.setAccount(newAccount);
             }
         }
-        if (dto.getAmount() != null) t.setAmount(dto.getAmount());
+        if (dto.getAmount() != null) t.setAmountCents(MoneyUtil.toCents(dto.getAmount()));
         if (dto.getType() != null) t.setType(TransactionEntity.TransactionType.valueOf(dto.getType().toUpperCase()));
         if (dto.getCategory() != null) t.setCategory(dto.getCategory().trim());
         if (dto.getDate() != null) t.setDate(parseDate(dto.getDate()));
         if (dto.getDescription() != null) t.setDescription(dto.getDescription().trim());
 
-        // Apply new balance effect
-        double newAdjustment = t.getType() == TransactionEntity.TransactionType.EXPENSE
-                ? -t.getAmount() : t.getAmount();
-        t.getAccount().setBalance(t.getAccount().getBalance() + newAdjustment);
-        accountRepository.save(t.getAccount());
+        // Revert the old effect and apply the new one as atomic increments
+        long newAdjustment = t.getType() == TransactionEntity.TransactionType.EXPENSE
+                ? -t.getAmountCents() : t.getAmountCents();
+        if (oldAccountId.equals(t.getAccount().getId())) {
+            accountRepository.adjustBalance(oldAccountId, newAdjustment - oldAdjustment);
+        } else {
+            accountRepository.adjustBalance(oldAccountId, -oldAdjustment);
+            accountRepository.adjustBalance(t.getAccount().getId(), newAdjustment);
+        }
 
-        return transactionRepository.save(t);
+        TransactionEntity saved = transactionRepository.save(t);
+        rollupService.unrecord(userId, oldDate, oldType, oldCategory, oldAmountCents);
+        rollupService.record(saved);
+        dashboardCache.invalidate(userId);
+        return saved;
     }
 
     // DELETE
-    public void deleteTransaction(String userEmail, Long transactionId) {
-        UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
+    @Transactional
+    public void deleteTransaction(Long userId, Long transactionId) {
         TransactionEntity t = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("Transaction not found"));
-        if (!t.getUser().getId().equals(user.getId())) {
+        if (!t.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("You can only delete your own transactions");
         }
 
         // Revert balance
-        double adjustment = t.getType() == TransactionEntity.TransactionType.EXPENSE
-                ? t.getAmount() : -t.getAmount();
-        t.getAccount().setBalance(t.getAccount().getBalance() + adjustment);
-        accountRepository.save(t.getAccount());
+        long adjustment = t.getType() == TransactionEntity.TransactionType.EXPENSE
+                ? t.getAmountCents() : -t.getAmountCents();
+        accountRepository.adjustBalance(t.getAccount().getId(), adjustment);
 
+        rollupService.unrecord(userId, t.getDate(), t.getType(), t.getCategory(), t.getAmountCents());
         transactionRepository.delete(t);
+        dashboardCache.invalidate(userId);
+    }
+
+    // Flat list rows: the account is referenced by id and described once in the page's account table
+    // (also used by ReactiveReadService, which streams the same rows)
+    static TransactionDTO toDTO(TransactionListView t) {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setId(t.getId());
+        dto.setAccountId(t.getAccountId());
+        dto.setAmount(MoneyUtil.toDecimal(t.getAmountCents()));
+        dto.setType(t.getType().name());
+        dto.setCategory(t.getCategory());
+        dto.setDate(t.getDate().toString());
+        dto.setDescription(t.getDescription());
+        dto.setCreatedAt(t.getCreatedAt() != null ? t.getCreatedAt().toString() : null);
+        return dto;
+    }
+
+    private Map<Long, AccountDTO> accountsFor(List<TransactionDTO> rows) {
+        Set<Long> ids = new HashSet<>();
+        rows.forEach(r -> ids.add(r.getAccountId()));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, AccountDTO> accounts = new LinkedHashMap<>();
+        for (AccountEntity a : accountRepository.findAllById(ids)) {
+            AccountDTO dto = new AccountDTO();
+            dto.setName(a.getName());
+            dto.setType(a.getType().name());
+            dto.setBalance(a.getBalance());
+            accounts.put(a.getId(), dto);
+        }
+        return accounts;
+    }
+
+    // Sorting helpers shared by offset and cursor pagination
+    static String normalizeSortBy(String sortBy) {
+        if (sortBy == null) return "date_desc";
+        return switch (sortBy.toLowerCase()) {
+            case "date_asc", "amount_desc", "amount_asc" -> sortBy.toLowerCase();
+            default -> "date_desc";
+        };
+    }
+
+    // id is always the last sort key so rows with equal dates/amounts have a stable order
+    private Sort resolveSort(String sortKey) {
+        return switch (sortKey) {
+            case "date_asc" -> Sort.by(Sort.Direction.ASC, "date", "id");
+            case "amount_desc" -> Sort.by(Sort.Direction.DESC, "amountCents", "id");
+            case "amount_asc" -> Sort.by(Sort.Direction.ASC, "amountCents", "id");
+            default -> Sort.by(Sort.Direction.DESC, "date", "id");
+        };
+    }
+
+    private String sortValueOf(String sortProperty, TransactionListView t) {
+        return sortProperty.equals("amountCents") ? Long.toString(t.getAmountCents()) : t.getDate().toString();
+    }
+
+    private Object parseSortValue(String sortProperty, String value) {
+        try {
+            return sortProperty.equals("amountCents") ? Long.valueOf(value) : LocalDateTime.parse(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
-    // Helper validation
-    private void validateCommonFields(TransactionDTO dto) {
+    // Helper validation (also used row by row by TransactionImportService)
+    static void validateCommonFields(TransactionDTO dto) {
         if (dto.getAccountId() == null) throw new IllegalArgumentException("Account ID is required");
-        if (dto.getAmount() == null || dto.getAmount() <= 0) throw new IllegalArgumentException("Valid amount is required");
+        if (dto.getAmount() == null || dto.getAmount().signum() <= 0) throw new IllegalArgumentException("Valid amount is required");
         if (dto.getType() == null || !dto.getType().matches("(?i)income|expense"))
             throw new IllegalArgumentException("Type must be 'income' or 'expense'");
         if (dto.getCategory() == null || dto.getCategory().trim().isEmpty())
@@ -159,7 +349,7 @@ public class TransactionService {
             throw new IllegalArgumentException("Date is required (YYYY-MM-DD)");
     }
 
-    private LocalDateTime parseDate(String dateStr) {
+    static LocalDateTime parseDate(String dateStr) {
         try {
             return LocalDateTime.parse(dateStr + "T00:00:00", DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         } catch (DateTimeParseException e) {
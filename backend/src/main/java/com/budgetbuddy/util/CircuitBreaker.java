@@ -0,0 +1,214 @@
+package com.budgetbuddy.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Count-based circuit breaker. While CLOSED every call runs and its outcome is recorded over the last
+ * windowSize calls; an exception or a call slower than slowCallThreshold counts as a failure. Once at least
+ * minimumCalls are recorded and the failure rate reaches the threshold it turns OPEN and rejects calls
+ * without running them. After openDuration one trial call is let through (HALF_OPEN): success closes
+ * the breaker with a clean window, failure opens it again.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private enum Permit { REGULAR, TRIAL }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    // Ring buffer of recent outcomes (true = failure); guarded by this
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialRunning;
+
+    private final AtomicLong successfulCalls = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    /**
+     * @param failureRateThreshold  percentage of failed calls in the window that opens the breaker
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                          Duration slowCallThreshold, Duration openDuration) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowCallThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                   Duration slowCallThreshold, Duration openDuration, LongSupplier clock) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("windowSize and minimumCalls must be positive, minimumCalls <= windowSize");
+        }
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+        this.window = new boolean[windowSize];
+    }
+
+    /** Runs work unless the breaker is open, in which case the exception from whenOpen is thrown instead */
+    public <T> T call(Supplier<T> work, Supplier<? extends RuntimeException> whenOpen) {
+        Call call = tryCall();
+        if (call == null) {
+            throw whenOpen.get();
+        }
+
+        T result;
+        try {
+            result = work.get();
+        } catch (RuntimeException | Error e) {
+            call.failed();
+            throw e;
+        }
+        call.succeeded();
+        return result;
+    }
+
+    /**
+     * For work that finishes on another thread: null when the breaker is open (counted as rejected), otherwise a
+     * Call that the caller ends exactly once with succeeded(), failed() or cancelled().
+     */
+    public Call tryCall() {
+        Permit permit = tryAcquire();
+        if (permit == null) {
+            rejectedCalls.incrementAndGet();
+            return null;
+        }
+        return new Call(permit, clock.getAsLong());
+    }
+
+    public final class Call {
+        private final Permit permit;
+        private final long start;
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private Call(Permit permit, long start) {
+            this.permit = permit;
+            this.start = start;
+        }
+
+        public void succeeded() {
+            if (ended.compareAndSet(false, true)) {
+                record(permit, clock.getAsLong() - start > slowCallNanos);
+            }
+        }
+
+        public void failed() {
+            if (ended.compareAndSet(false, true)) {
+                record(permit, true);
+            }
+        }
+
+        // Abandoned by the caller before an outcome: nothing is recorded, but a trial call frees its slot
+        public void cancelled() {
+            if (ended.compareAndSet(false, true) && permit == Permit.TRIAL) {
+                releaseTrial();
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        // Report a breaker whose open period is over as half-open, even before the next call arrives
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public long getSuccessfulCalls() {
+        return successfulCalls.get();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.get();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    // null means rejected
+    private synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return null;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialRunning) {
+                return null;
+            }
+            trialRunning = true;
+            return Permit.TRIAL;
+        }
+        return Permit.REGULAR;
+    }
+
+    private synchronized void releaseTrial() {
+        trialRunning = false;
+    }
+
+    private synchronized void record(Permit permit, boolean failed) {
+        (failed ? failedCalls : successfulCalls).incrementAndGet();
+
+        if (permit == Permit.TRIAL) {
+            trialRunning = false;
+            if (failed) {
+                open();
+            } else {
+                state = State.CLOSED;
+                resetWindow();
+            }
+            return;
+        }
+        // A regular call that finishes after the breaker opened no longer affects it
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (recorded == windowSize && window[next]) {
+            failures--;
+        }
+        window[next] = failed;
+        next = (next + 1) % windowSize;
+        recorded = Math.min(recorded + 1, windowSize);
+        if (failed) {
+            failures++;
+        }
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
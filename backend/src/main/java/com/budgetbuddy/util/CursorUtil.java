@@ -0,0 +1,34 @@
+package com.budgetbuddy.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset pagination positions as opaque URL-safe strings.
+ * A cursor carries the sort it was issued for, the scroll direction, the sort key of the boundary row and its id.
+ */
+public final class CursorUtil {
+
+    private CursorUtil() {}
+
+    public record Cursor(String sortBy, boolean forward, String sortValue, Long id) {}
+
+    public static String encode(Cursor cursor) {
+        String raw = cursor.sortBy() + "|" + (cursor.forward() ? "f" : "b") + "|" + cursor.sortValue() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !(parts[1].equals("f") || parts[1].equals("b"))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new Cursor(parts[0], parts[1].equals("f"), parts[2], Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException e) {
+            // Also covers bad Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -1,51 +1,119 @@
 package com.budgetbuddy.util;
 import com.budgetbuddy.config.JwtProperties;
+import com.budgetbuddy.config.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
-    private final long expirationMs = 1000 * 60 * 60 * 24; // 24 hours
+    private final Duration accessTokenTtl;
+    private static final String USER_ID_CLAIM = "uid";
+
+    // Parsers are immutable and thread-safe, so one is built up front and shared by every request
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
     // Inject the JwtProperties object
-    public JwtUtil(JwtProperties properties) {
+    public JwtUtil(JwtProperties properties, MeterRegistry registry) {
         // Get the secret value from the properties object
-        String secret = properties.getSecret(); 
-        
-        // Decode the secret string into a Key 
+        String secret = properties.getSecret();
+
+        // Decode the secret string into a Key
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.accessTokenTtl = properties.getAccessTokenTtl();
+        this.verifiedTokens = new VerifiedTokenCache(properties.getTokenCacheMaxEntries());
+
+        FunctionCounter.builder("jwt.token.cache.requests", verifiedTokens.hits, AtomicLong::get)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("jwt.token.cache.requests", verifiedTokens.misses, AtomicLong::get)
+                .tag("result", "miss").register(registry);
+        Gauge.builder("jwt.token.cache.size", verifiedTokens, VerifiedTokenCache::size)
+                .register(registry);
     }
 
-    public String generateToken(String email) {
+    // The user id rides along so requests can be attributed without looking the email up;
+    // the random jti is what a revocation refers to
+    public String generateToken(Long userId, String email) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
+                .claim(USER_ID_CLAIM, userId)
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expirationMs))
+                .expiration(new Date(System.currentTimeMillis() + accessTokenTtl.toMillis()))
                 .signWith(secretKey)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    /**
+     * Verifies the token once and returns who it belongs to, or null if it is invalid or expired.
+     * Tokens seen before are answered from the cache without re-checking the signature.
+     */
+    public UserPrincipal authenticate(String token) {
+        if (!verifiedTokens.isEnabled()) {
+            return verify(token);
+        }
+
+        String key = VerifiedTokenCache.keyOf(token);
+        UserPrincipal cached = verifiedTokens.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        UserPrincipal principal = toPrincipal(claims);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, principal, claims.getExpiration().getTime());
+        }
+        return principal;
     }
 
-    public boolean validateToken(String token) {
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    // Drops a token from the verified cache; revocation itself is enforced by TokenRevocationService
+    public void evict(String token) {
+        verifiedTokens.remove(VerifiedTokenCache.keyOf(token));
+    }
+
+    private UserPrincipal verify(String token) {
+        Claims claims = parseClaims(token);
+        return claims != null ? toPrincipal(claims) : null;
+    }
+
+    // Single parse-and-verify pass; signature, structure and exp are all checked here
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
-}
\ No newline at end of file
+
+    // uid and jti are missing on tokens issued before those claims were added
+    private static UserPrincipal toPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Date expiration = claims.getExpiration();
+        return new UserPrincipal(userId != null ? userId.longValue() : null, claims.getSubject(),
+                claims.getId(), expiration != null ? expiration.toInstant() : null);
+    }
+}
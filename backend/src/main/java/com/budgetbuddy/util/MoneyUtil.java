@@ -0,0 +1,41 @@
+package com.budgetbuddy.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Money is stored and summed as a long count of cents.
+ * BigDecimal only appears at the edges: parsing request/import values and rendering JSON.
+ */
+public final class MoneyUtil {
+
+    private MoneyUtil() {}
+
+    // Exact conversion; more than two decimal places is rejected rather than rounded
+    public static long toCents(BigDecimal amount) {
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amounts can have at most 2 decimal places");
+        }
+    }
+
+    public static long parseCents(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Valid amount is required");
+        }
+        try {
+            return toCents(new BigDecimal(value.trim().replace(",", "")));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valid amount is required");
+        }
+    }
+
+    // Scale-2 decimal, so JSON renders 12.50 rather than 12.499999...
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public static String format(long cents) {
+        return toDecimal(cents).toPlainString();
+    }
+}
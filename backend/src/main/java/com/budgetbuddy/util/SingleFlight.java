@@ -0,0 +1,93 @@
+package com.budgetbuddy.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one: the first caller runs the loader on its own thread,
+ * callers arriving while it runs wait for and share its result (or its exception).
+ * A waiter gives up after maxWait with a TimeoutException, so a stuck load can't hold every thread that joined it;
+ * the load itself keeps running for its own caller.
+ * Nothing is kept once the call finishes, so the next caller always loads afresh.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong collapsed = new AtomicLong();
+    private final long maxWaitNanos;
+
+    public SingleFlight(Duration maxWait) {
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative");
+        }
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public V execute(K key, Supplier<V> loader) throws TimeoutException {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            collapsed.incrementAndGet();
+            return await(leader, maxWaitNanos);
+        }
+
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            // No-op if the call was forgotten meanwhile and a newer one took the slot
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** Later callers for key start a new call instead of joining the running one; waiters already joined keep it */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetIf(Predicate<? super K> keys) {
+        inFlight.keySet().removeIf(keys);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    /** Calls that were answered by another caller's load */
+    public long getCollapsed() {
+        return collapsed.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> leader, long maxWaitNanos) throws TimeoutException {
+        try {
+            return leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared load", e);
+        } catch (ExecutionException e) {
+            // Rethrow what the leader saw, so waiters fail the same way it did
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw new IllegalStateException("Shared load failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.budgetbuddy.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Token buckets keyed by an arbitrary string (client IP, email, ...).
+ * Keys are spread over independently locked stripes so unrelated clients don't contend,
+ * buckets are refilled lazily on access and mutated in place, and buckets that have been idle long
+ * enough to be full again are dropped, since a fresh bucket would behave identically.
+ */
+public final class TokenBucketLimiter {
+
+    private final Stripe[] stripes;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+    private final int maxKeysPerStripe;
+
+    /**
+     * @param capacity  burst size
+     * @param refill    tokens added per refillPeriod
+     * @param maxKeys   upper bound on tracked keys; least recently used ones are dropped beyond it
+     */
+    public TokenBucketLimiter(int capacity, int refill, Duration refillPeriod, int stripes, int maxKeys) {
+        if (capacity < 1 || refill < 1 || stripes < 1) {
+            throw new IllegalArgumentException("capacity, refill and stripes must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refill / refillPeriod.toNanos();
+        // Time for an empty bucket to fill up completely
+        this.idleNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripes);
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /** Takes one token for key; returns 0 when allowed, otherwise the nanoseconds until a token is available */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        Stripe stripe = stripes[(key.hashCode() & 0x7fffffff) % stripes.length];
+        synchronized (stripe) {
+            if (now - stripe.lastSweep > idleNanos) {
+                stripe.sweep(now, idleNanos);
+            }
+
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.lastRefill) * tokensPerNano);
+                bucket.lastRefill = now;
+            }
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.buckets.size();
+            }
+        }
+        return total;
+    }
+
+    private final class Stripe {
+        long lastSweep = System.nanoTime();
+
+        // Access-ordered so the eldest entry is always the least recently used one
+        final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxKeysPerStripe;
+            }
+        };
+
+        void sweep(long now, long idleNanos) {
+            lastSweep = now;
+            Iterator<Bucket> it = buckets.values().iterator();
+            while (it.hasNext()) {
+                if (now - it.next().lastRefill > idleNanos) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long lastRefill;
+
+        Bucket(double tokens, long lastRefill) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+        }
+    }
+}
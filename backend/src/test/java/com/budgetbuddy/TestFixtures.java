@@ -0,0 +1,64 @@
+package com.budgetbuddy;
+
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
+import com.budgetbuddy.repository.TransactionRepository;
+import com.budgetbuddy.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared setup for @SpringBootTest classes: empties the tables and saves the "John Doe" user with
+ * checking accounts. Picked up by the application's component scan, so tests just autowire it.
+ */
+@Component
+public class TestFixtures {
+
+    public static final String EMAIL = "john.doe@example.com";
+
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+
+    public TestFixtures(UserRepository userRepository, AccountRepository accountRepository,
+                        TransactionRepository transactionRepository, MonthlyRollupRepository monthlyRollupRepository) {
+        this.userRepository = userRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.monthlyRollupRepository = monthlyRollupRepository;
+    }
+
+    // Children first, so no foreign key is left dangling
+    public void deleteAll() {
+        monthlyRollupRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    public UserEntity saveJohnDoe() {
+        UserEntity user = new UserEntity();
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setEmail(EMAIL);
+        user.setPasswordHash("$2a$10$hashed");
+        return userRepository.save(user);
+    }
+
+    public AccountEntity saveAccount(UserEntity user, String name, long balanceCents) {
+        AccountEntity account = new AccountEntity();
+        account.setUser(user);
+        account.setName(name);
+        account.setType(AccountEntity.AccountType.checking);
+        account.setBalanceCents(balanceCents);
+        return accountRepository.save(account);
+    }
+
+    /** Clean tables, then John Doe with one empty "Main" account */
+    public AccountEntity resetToMainAccount() {
+        deleteAll();
+        return saveAccount(saveJohnDoe(), "Main", 0);
+    }
+}
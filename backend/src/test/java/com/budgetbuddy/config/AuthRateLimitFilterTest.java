@@ -0,0 +1,103 @@
+package com.budgetbuddy.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuthRateLimitFilterTest {
+
+    private static final String BODY = "{\"email\":\"john@example.com\",\"password\":\"secret\"}";
+
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        filter = new AuthRateLimitFilter(new AuthRateLimitProperties(), new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletRequest login() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Test
+    public void testBodyIsReplayedToTheController() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        filter.doFilter(login(), new MockHttpServletResponse(),
+                (req, res) -> seen.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+
+        assertEquals(BODY, seen.get());
+    }
+
+    @Test
+    public void testReadListenerGetsTheCachedBodyBeforeAllDataRead() throws Exception {
+        // Stands in for the container: the filter has already drained the real stream
+        AtomicReference<ReadListener> registered = new AtomicReference<>();
+        ServletInputStream drained = new ServletInputStream() {
+            @Override public int read() { return -1; }
+            @Override public boolean isFinished() { return true; }
+            @Override public boolean isReady() { return true; }
+            @Override public void setReadListener(ReadListener listener) { registered.set(listener); }
+        };
+        MockHttpServletRequest login = login();
+        HttpServletRequestWrapper request = new HttpServletRequestWrapper(login) {
+            private boolean first = true;
+
+            @Override
+            public ServletInputStream getInputStream() throws IOException {
+                if (first) {
+                    first = false;
+                    return login.getInputStream();
+                }
+                return drained;
+            }
+        };
+
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        StringBuilder events = new StringBuilder();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.append("data;");
+                    while (in.isReady() && !in.isFinished()) {
+                        int b = in.read();
+                        if (b == -1) {
+                            break;
+                        }
+                        read.write(b);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.append("done;");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            });
+        });
+
+        registered.get().onAllDataRead();
+        assertEquals("data;done;", events.toString());
+        assertEquals(BODY, read.toString(StandardCharsets.UTF_8));
+    }
+}
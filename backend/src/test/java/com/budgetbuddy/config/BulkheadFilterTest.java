@@ -0,0 +1,127 @@
+package com.budgetbuddy.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkheadFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private BulkheadFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setEnabled(true);
+        properties.setMaxWait(Duration.ZERO);
+        properties.getMaxConcurrent().put("transactions", 1);
+        registry = new SimpleMeterRegistry();
+        filter = new BulkheadFilter(properties, registry, BulkheadFilterTest::matchPattern);
+    }
+
+    // Stands in for the controllers' mapping: records the pattern the way RequestMappingHandlerMapping does
+    private static HandlerExecutionChain matchPattern(HttpServletRequest request) {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/transactions/{id}");
+        return null;
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private double active(String group) {
+        return registry.get("http.bulkhead.active").tag("group", group).gauge().value();
+    }
+
+    @Test
+    public void testGroupsFollowControllerPaths() {
+        assertEquals("transactions", BulkheadFilter.groupOf("/api/transactions"));
+        assertEquals("transactions", BulkheadFilter.groupOf("/api/transactions/export"));
+        assertEquals("dashboard", BulkheadFilter.groupOf("/api/dashboard/summary"));
+        assertEquals("profile", BulkheadFilter.groupOf("/api/profile"));
+        assertNull(BulkheadFilter.groupOf("/api/transactionsfoo"));
+        assertNull(BulkheadFilter.groupOf("/actuator/health"));
+    }
+
+    @Test
+    public void testFullGroupIsRejectedWhileOtherGroupsRun() throws Exception {
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+        MockHttpServletResponse profile = new MockHttpServletResponse();
+        AtomicInteger profileCalls = new AtomicInteger();
+
+        // The outer request holds the only transactions slot while the other two arrive
+        filter.doFilter(get("/api/transactions"), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(get("/api/transactions/42"), inner, (r, s) -> fail("over the limit"));
+            filter.doFilter(get("/api/profile"), profile, (r, s) -> profileCalls.incrementAndGet());
+        });
+
+        assertEquals(503, inner.getStatus());
+        assertEquals("1", inner.getHeader("Retry-After"));
+        assertEquals(200, profile.getStatus());
+        assertEquals(1, profileCalls.get());
+        assertEquals(1, registry.get("http.bulkhead.rejected")
+                .tags("group", "transactions", "method", "GET", "uri", "/api/transactions/{id}").counter().count());
+        assertEquals(0, active("transactions"));
+    }
+
+    @Test
+    public void testQueryTimeoutIsAnsweredWith503AndCounted() throws Exception {
+        MockHttpServletRequest request = get("/api/transactions");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain timesOut = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/transactions");
+            throw new ServletException("Request processing failed", new QueryTimeoutException("statement timeout"));
+        };
+
+        filter.doFilter(request, response, timesOut);
+
+        assertEquals(503, response.getStatus());
+        assertEquals(1, registry.get("http.query.timeouts")
+                .tags("group", "transactions", "method", "GET", "uri", "/api/transactions").counter().count());
+        assertEquals(0, active("transactions"));
+    }
+
+    @Test
+    public void testOtherFailuresPropagateAndReleaseTheSlot() {
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(get("/api/transactions"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    throw new IllegalStateException("boom");
+                }));
+        assertEquals(0, active("transactions"));
+    }
+
+    @Test
+    public void testStreamedResponseKeepsItsSlotUntilComplete() throws Exception {
+        MockHttpServletRequest request = get("/api/transactions/export");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertEquals(1, active("transactions"));
+
+        request.getAsyncContext().complete();
+        assertEquals(0, active("transactions"));
+    }
+
+    @Test
+    public void testUnknownGroupIsRejected() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setEnabled(true);
+        properties.setMaxConcurrent(Map.of("reports", 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BulkheadFilter(properties, registry, BulkheadFilterTest::matchPattern));
+    }
+}
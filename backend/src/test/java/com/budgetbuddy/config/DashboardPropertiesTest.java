@@ -0,0 +1,30 @@
+package com.budgetbuddy.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DashboardPropertiesTest {
+
+    private static DashboardProperties bind(Map<String, String> values) {
+        Binder binder = new Binder(new MapConfigurationPropertySource(values));
+        return binder.bindOrCreate("dashboard", Bindable.of(DashboardProperties.class));
+    }
+
+    @Test
+    public void testRecentTransactionsDefaultsAndBinds() {
+        assertEquals(10, bind(Map.of()).getRecentTransactions());
+        assertEquals(25, bind(Map.of("dashboard.recent-transactions", "25")).getRecentTransactions());
+    }
+
+    @Test
+    public void testRecentTransactionsBelowOneIsRejected() {
+        assertThrows(BindException.class, () -> bind(Map.of("dashboard.recent-transactions", "0")));
+    }
+}
@@ -0,0 +1,15 @@
+package com.budgetbuddy.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class VirtualThreadsCheckTest {
+
+    @Test
+    public void testOlderJdkRefusesVirtualThreads() {
+        assertThrows(IllegalStateException.class, () -> VirtualThreadsCheck.requireJdk(17));
+        assertDoesNotThrow(() -> VirtualThreadsCheck.requireJdk(21));
+    }
+}
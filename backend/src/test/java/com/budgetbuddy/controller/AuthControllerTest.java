@@ -1,8 +1,10 @@
 package com.budgetbuddy.controller;
 
+import com.budgetbuddy.config.JwtProperties;
 import com.budgetbuddy.dto.UserDTO;
 import com.budgetbuddy.entity.UserEntity;
 import com.budgetbuddy.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,13 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -33,9 +42,17 @@ public class AuthControllerTest {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    // The rate limiter outlives each test in the shared context, so every test logs in as a different address
+    private static final AtomicInteger testRuns = new AtomicInteger();
+    private String email;
+
     @BeforeEach
     public void setup() {
         userRepository.deleteAll();
+        email = "john.doe" + testRuns.incrementAndGet() + "@example.com";
     }
 
     @Test
@@ -43,7 +60,7 @@ public class AuthControllerTest {
         UserDTO userDTO = new UserDTO();
         userDTO.setFirstName("John");
         userDTO.setLastName("Doe");
-        userDTO.setEmail("john.doe@example.com");
+        userDTO.setEmail(email);
         userDTO.setPassword("securePassword123");
 
         mockMvc.perform(post("/api/auth/register")
@@ -58,7 +75,7 @@ public class AuthControllerTest {
         UserDTO userDTO = new UserDTO();
         userDTO.setFirstName("John");
         userDTO.setLastName("Doe");
-        userDTO.setEmail("john.doe@example.com");
+        userDTO.setEmail(email);
         userDTO.setPassword("securePassword123");
 
         // First registration
@@ -96,12 +113,12 @@ public class AuthControllerTest {
         UserEntity user = new UserEntity();
         user.setFirstName("John");
         user.setLastName("Doe");
-        user.setEmail("john.doe@example.com");
+        user.setEmail(email);
         user.setPasswordHash(passwordEncoder.encode("securePassword123"));
         userRepository.save(user);
 
         UserDTO userDTO = new UserDTO();
-        userDTO.setEmail("john.doe@example.com");
+        userDTO.setEmail(email);
         userDTO.setPassword("securePassword123");
 
         mockMvc.perform(post("/api/auth/login")
@@ -111,10 +128,34 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.token").exists());
     }
 
+    @Test
+    public void testLoginRehashesPasswordWithOldCost() throws Exception {
+        // Stored with cost 4; the configured strength is 10
+        UserEntity user = new UserEntity();
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setEmail(email);
+        user.setPasswordHash(new BCryptPasswordEncoder(4).encode("securePassword123"));
+        userRepository.save(user);
+
+        UserDTO userDTO = new UserDTO();
+        userDTO.setEmail(email);
+        userDTO.setPassword("securePassword123");
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(status().isOk());
+
+        String rehashed = userRepository.findByEmail(email).get().getPasswordHash();
+        assertTrue(rehashed.startsWith("$2a$10$"));
+        assertTrue(passwordEncoder.matches("securePassword123", rehashed));
+    }
+
     @Test
     public void testLoginUserInvalidCredentials() throws Exception {
         UserDTO userDTO = new UserDTO();
-        userDTO.setEmail("john.doe@example.com");
+        userDTO.setEmail(email);
         userDTO.setPassword("wrongPassword");
 
         mockMvc.perform(post("/api/auth/login")
@@ -124,6 +165,160 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$").value("Invalid email or password"));
     }
 
+    @Test
+    public void testLoginRateLimitedPerEmail() throws Exception {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setEmail("Target@Example.com");
+        userDTO.setPassword("wrongPassword");
+        String body = objectMapper.writeValueAsString(userDTO);
+
+        // Spread over addresses so only the per-email bucket (10 by default) is exhausted
+        for (int i = 0; i < 10; i++) {
+            String ip = "192.0.2." + i;
+            mockMvc.perform(post("/api/auth/login")
+                    .with(request -> { request.setRemoteAddr(ip); return request; })
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        userDTO.setEmail("target@example.com");
+        mockMvc.perform(post("/api/auth/login")
+                .with(request -> { request.setRemoteAddr("192.0.2.99"); return request; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    private JsonNode loginAsJohn() throws Exception {
+        UserEntity user = new UserEntity();
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setEmail(email);
+        user.setPasswordHash(passwordEncoder.encode("securePassword123"));
+        userRepository.save(user);
+
+        UserDTO userDTO = new UserDTO();
+        userDTO.setEmail(email);
+        userDTO.setPassword("securePassword123");
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andExpect(jsonPath("$.expiresIn").value(900))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private String refreshBody(String refreshToken) throws Exception {
+        AuthController.RefreshRequest request = new AuthController.RefreshRequest();
+        request.setRefreshToken(refreshToken);
+        return objectMapper.writeValueAsString(request);
+    }
+
+    private String refresh(String refreshToken) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("refreshToken").asText();
+    }
+
+    @Test
+    public void testRefreshRotatesTokenAndRejectsReuse() throws Exception {
+        String refreshToken = loginAsJohn().get("refreshToken").asText();
+        String rotated = refresh(refreshToken);
+        assertNotEquals(refreshToken, rotated);
+
+        Duration grace = jwtProperties.getRefreshReuseGrace();
+        jwtProperties.setRefreshReuseGrace(Duration.ZERO);
+        try {
+            // Replaying the used token is treated as theft: it fails and takes the rotated one down with it
+            mockMvc.perform(post("/api/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isUnauthorized());
+            mockMvc.perform(post("/api/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(rotated)))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            jwtProperties.setRefreshReuseGrace(grace);
+        }
+    }
+
+    @Test
+    public void testReuseRightAfterRotationKeepsTheSession() throws Exception {
+        String refreshToken = loginAsJohn().get("refreshToken").asText();
+        String rotated = refresh(refreshToken);
+
+        // A second tab refreshing with the same token a moment later is refused, but nothing is revoked
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+        refresh(rotated);
+    }
+
+    @Test
+    public void testLogoutRevokesAccessAndRefreshTokens() throws Exception {
+        JsonNode tokens = loginAsJohn();
+        String bearer = "Bearer " + tokens.get("token").asText();
+
+        mockMvc.perform(get("/api/profile").header("Authorization", bearer))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(tokens.get("refreshToken").asText())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/profile").header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(tokens.get("refreshToken").asText())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testRefreshAfterLogoutDoesNotEndOtherSessions() throws Exception {
+        String loggedOut = loginAsJohn().get("refreshToken").asText();
+        UserDTO userDTO = new UserDTO();
+        userDTO.setEmail(email);
+        userDTO.setPassword("securePassword123");
+        String otherDevice = objectMapper.readTree(mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userDTO)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(refreshBody(loggedOut)))
+                .andExpect(status().isOk());
+
+        // A second tab still holding the logged-out token, well after the reuse grace
+        Duration grace = jwtProperties.getRefreshReuseGrace();
+        jwtProperties.setRefreshReuseGrace(Duration.ZERO);
+        try {
+            mockMvc.perform(post("/api/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(loggedOut)))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$").value("Invalid refresh token"));
+        } finally {
+            jwtProperties.setRefreshReuseGrace(grace);
+        }
+        refresh(otherDevice);
+    }
+
     @Test
     public void testLogoutUser() throws Exception {
         mockMvc.perform(post("/api/auth/logout")
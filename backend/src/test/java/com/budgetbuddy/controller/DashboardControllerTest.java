@@ -0,0 +1,75 @@
+package com.budgetbuddy.controller;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.service.DashboardCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class DashboardControllerTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private DashboardCache dashboardCache;
+
+    private AccountEntity testAccount;
+
+    @BeforeEach
+    public void setup() {
+        dashboardCache.clear();
+        fixtures.deleteAll();
+        testAccount = fixtures.saveAccount(fixtures.saveJohnDoe(), "Main", 10000);
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testSummaryIsCachedUntilTransactionWrite() throws Exception {
+        mockMvc.perform(get("/api/dashboard/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBalance").value(100.0));
+
+        long hitsBefore = dashboardCache.getHits();
+        mockMvc.perform(get("/api/dashboard/summary"))
+                .andExpect(status().isOk());
+        assertEquals(hitsBefore + 1, dashboardCache.getHits());
+
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAccountId(testAccount.getId());
+        dto.setAmount(new BigDecimal("25.00"));
+        dto.setType("expense");
+        dto.setCategory("Food");
+        dto.setDate(LocalDate.now().toString());
+        mockMvc.perform(post("/api/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+
+        // The write invalidated the cached summary, so the new balance and category show up
+        mockMvc.perform(get("/api/dashboard/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalBalance").value(75.0))
+                .andExpect(jsonPath("$.recentTransactions.length()").value(1))
+                .andExpect(jsonPath("$.categorySpendingLast6Months[0].category").value("Food"));
+    }
+}
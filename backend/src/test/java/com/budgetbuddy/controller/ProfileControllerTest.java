@@ -1,9 +1,13 @@
 package com.budgetbuddy.controller;
 
 // import com.budgetbuddy.dto.UserDTO;
+import com.budgetbuddy.config.JwtProperties;
 import com.budgetbuddy.entity.UserEntity;
 import com.budgetbuddy.repository.UserRepository;
+import com.budgetbuddy.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +18,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Date;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +39,12 @@ public class ProfileControllerTest {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
     private UserEntity testUser;
 
     @BeforeEach
@@ -43,7 +55,7 @@ public class ProfileControllerTest {
         testUser.setLastName("Doe");
         testUser.setEmail("john.doe@example.com");
         testUser.setPasswordHash(passwordEncoder.encode("securePassword123"));
-        userRepository.save(testUser);
+        testUser = userRepository.save(testUser);
     }
 
     @Test
@@ -138,4 +150,37 @@ public class ProfileControllerTest {
                 .content(objectMapper.writeValueAsString(updateDTO)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUpdateEmail_SameTokenKeepsWorking() throws Exception {
+        String token = jwtUtil.generateToken(testUser.getId(), testUser.getEmail());
+        ProfileController.UpdateEmailDTO updateDTO = new ProfileController.UpdateEmailDTO();
+        updateDTO.setEmail("jane.smith@example.com");
+
+        mockMvc.perform(put("/api/profile/email")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        // The token's subject is now stale, but the user id claim still identifies the account
+        mockMvc.perform(get("/api/profile").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("jane.smith@example.com"));
+    }
+
+    @Test
+    public void testTokenWithoutUserIdFallsBackToEmail() throws Exception {
+        // Shape of tokens issued before the user id claim was added
+        String legacyToken = Jwts.builder()
+                .subject(testUser.getEmail())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes()))
+                .compact();
+
+        mockMvc.perform(get("/api/profile").header("Authorization", "Bearer " + legacyToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("John"));
+    }
+}
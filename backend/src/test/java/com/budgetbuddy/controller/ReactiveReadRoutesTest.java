@@ -0,0 +1,174 @@
+package com.budgetbuddy.controller;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.config.ReactiveApiServer;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.repository.ReactiveReadQueries;
+import com.budgetbuddy.service.DashboardService;
+import com.budgetbuddy.service.TransactionService;
+import com.budgetbuddy.util.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+
+/**
+ * The reactive read API against embedded H2 (JDBC and R2DBC share one in-memory database):
+ * every response must match what the MVC services return for the same user and parameters.
+ */
+@SpringBootTest(properties = {
+        "reactive-api.enabled=true",
+        "reactive-api.port=0",
+        "reactive-api.url=r2dbc:h2:mem:///reactive_api?options=DB_CLOSE_DELAY=-1",
+        "reactive-api.username=sa",
+        "reactive-api.password=",
+        "spring.datasource.url=jdbc:h2:mem:reactive_api;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "dashboard.cache.enabled=false",
+        "dashboard.parallel.timeout=2s"
+})
+@ActiveProfiles("test")
+public class ReactiveReadRoutesTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ReactiveApiServer reactiveApiServer;
+    @Autowired private TransactionService transactionService;
+    @Autowired private DashboardService dashboardService;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private ObjectMapper objectMapper;
+    @SpyBean private ReactiveReadQueries queries;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private UserEntity testUser;
+    private String token;
+
+    @AfterEach
+    public void tearDown() {
+        reset(queries);
+    }
+
+    @BeforeEach
+    public void setup() {
+        AccountEntity account = fixtures.resetToMainAccount();
+        testUser = account.getUser();
+
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 30; i++) {
+            TransactionDTO dto = new TransactionDTO();
+            dto.setAccountId(account.getId());
+            dto.setAmount(BigDecimal.valueOf(1000 + 37L * i, 2));
+            dto.setType(i % 3 == 0 ? "income" : "expense");
+            dto.setCategory(i % 2 == 0 ? "Groceries" : "Rent");
+            dto.setDate(today.minusDays(i).toString());
+            transactionService.createTransaction(testUser.getId(), dto);
+        }
+
+        token = jwtUtil.generateToken(testUser.getId(), testUser.getEmail());
+    }
+
+    private HttpResponse<String> get(String path, String bearer) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + reactiveApiServer.getPort() + path)).GET();
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<TransactionDTO> streamed(String path) throws Exception {
+        HttpResponse<String> response = get(path, token);
+        assertEquals(200, response.statusCode(), response.body());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/x-ndjson"));
+
+        List<TransactionDTO> rows = new ArrayList<>();
+        for (String line : response.body().split("\n")) {
+            if (!line.isBlank()) {
+                rows.add(objectMapper.readValue(line, TransactionDTO.class));
+            }
+        }
+        return rows;
+    }
+
+    private static void assertSameRows(List<TransactionDTO> expected, List<TransactionDTO> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), actual.get(i).getId());
+            assertEquals(expected.get(i).getAccountId(), actual.get(i).getAccountId());
+            assertEquals(0, expected.get(i).getAmount().compareTo(actual.get(i).getAmount()));
+            assertEquals(expected.get(i).getType(), actual.get(i).getType());
+            assertEquals(expected.get(i).getCategory(), actual.get(i).getCategory());
+            assertEquals(expected.get(i).getDate(), actual.get(i).getDate());
+        }
+    }
+
+    @Test
+    public void testTransactionPagesMatchTheServletApi() throws Exception {
+        Long userId = testUser.getId();
+
+        assertSameRows(transactionService.getTransactions(userId, null, "date_desc", 1, 7).getContent(),
+                streamed("/api/transactions?page=1&limit=7"));
+        assertSameRows(transactionService.getTransactions(userId, null, "amount_asc", 0, 10).getContent(),
+                streamed("/api/transactions?sortBy=amount_asc&limit=10"));
+        assertSameRows(transactionService.getTransactions(userId, "rent", "date_desc", 0, 50).getContent(),
+                streamed("/api/transactions?category=rent&limit=50"));
+        // _ and % in the filter are literal, not wildcards
+        assertEquals(List.of(), streamed("/api/transactions?category=r_nt&limit=50"));
+        assertEquals(List.of(), streamed("/api/transactions?category=gr%25s&limit=50"));
+    }
+
+    @Test
+    public void testDashboardSummaryMatchesTheServletApi() throws Exception {
+        HttpResponse<String> response = get("/api/dashboard/summary", token);
+        assertEquals(200, response.statusCode(), response.body());
+
+        JsonNode expected = objectMapper.readTree(
+                objectMapper.writeValueAsString(dashboardService.getDashboardSummary(testUser.getId())));
+        assertEquals(expected, objectMapper.readTree(response.body()));
+    }
+
+    @Test
+    public void testDashboardTimeoutIsAnsweredWith503() throws Exception {
+        doReturn(Mono.never()).when(queries).sumBalanceCents(any());
+
+        HttpResponse<String> response = get("/api/dashboard/summary", token);
+        assertEquals(503, response.statusCode(), response.body());
+        assertEquals("1", response.headers().firstValue("Retry-After").orElse(null));
+    }
+
+    @Test
+    public void testRequestsNeedAValidToken() throws Exception {
+        assertEquals(403, get("/api/transactions", null).statusCode());
+        assertEquals(403, get("/api/dashboard/summary", "not-a-token").statusCode());
+    }
+
+    @Test
+    public void testInvalidPagingIsRejected() throws Exception {
+        assertEquals(400, get("/api/transactions?limit=0", token).statusCode());
+        assertEquals(400, get("/api/transactions?page=abc", token).statusCode());
+    }
+}
@@ -4,7 +4,9 @@ import com.budgetbuddy.dto.TransactionDTO;
 import com.budgetbuddy.entity.AccountEntity;
 import com.budgetbuddy.entity.TransactionEntity;
 import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.entity.MonthlyRollupEntity;
 import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
 import com.budgetbuddy.repository.TransactionRepository;
 import com.budgetbuddy.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,10 +20,16 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -35,12 +43,14 @@ public class TransactionControllerTest {
     @Autowired private UserRepository userRepository;
     @Autowired private AccountRepository accountRepository;
     @Autowired private TransactionRepository transactionRepository;
+    @Autowired private MonthlyRollupRepository monthlyRollupRepository;
 
     private UserEntity testUser;
     private AccountEntity testAccount;
 
     @BeforeEach
     public void setup() {
+        monthlyRollupRepository.deleteAll();
         transactionRepository.deleteAll();
         accountRepository.deleteAll();
         userRepository.deleteAll();
@@ -56,7 +66,7 @@ public class TransactionControllerTest {
         testAccount.setUser(testUser);
         testAccount.setName("Main");
         testAccount.setType(AccountEntity.AccountType.checking);
-        testAccount.setBalance(0.0);
+        testAccount.setBalanceCents(0);
         testAccount = accountRepository.save(testAccount);
     }
 
@@ -65,7 +75,7 @@ public class TransactionControllerTest {
         TransactionEntity t = new TransactionEntity();
         t.setAccount(testAccount);
         t.setUser(testUser);
-        t.setAmount(amount);
+        t.setAmountCents(Math.round(amount * 100));
         t.setType(type.equals("income")
                 ? TransactionEntity.TransactionType.INCOME
                 : TransactionEntity.TransactionType.EXPENSE);
@@ -80,7 +90,7 @@ public class TransactionControllerTest {
     public void testCreateTransactionSuccess() throws Exception {
         TransactionDTO dto = new TransactionDTO();
         dto.setAccountId(testAccount.getId());
-        dto.setAmount(100.0);
+        dto.setAmount(new BigDecimal("100.00"));
         dto.setType("income");
         dto.setCategory("Salary");
         dto.setDate("2023-10-01");
@@ -91,7 +101,7 @@ public class TransactionControllerTest {
                 .andExpect(status().isCreated());
 
         assertEquals(1, transactionRepository.count());
-        assertEquals(100.0, accountRepository.findById(testAccount.getId()).get().getBalance());
+        assertEquals(10000L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
     }
 
     @Test
@@ -99,7 +109,7 @@ public class TransactionControllerTest {
     public void testCreateTransactionInvalidAccount() throws Exception {
         TransactionDTO dto = new TransactionDTO();
         dto.setAccountId(999L);
-        dto.setAmount(50.0);
+        dto.setAmount(new BigDecimal("50.00"));
         dto.setType("expense");
         dto.setCategory("Food");
         dto.setDate("2023-10-02");
@@ -115,7 +125,7 @@ public class TransactionControllerTest {
     public void testCreateTransactionInvalidAmount() throws Exception {
         TransactionDTO dto = new TransactionDTO();
         dto.setAccountId(testAccount.getId());
-        dto.setAmount(-10.0);
+        dto.setAmount(new BigDecimal("-10.00"));
         dto.setType("expense");
         dto.setCategory("Groceries");
         dto.setDate("2023-10-03");
@@ -126,12 +136,43 @@ public class TransactionControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testAmountsAreExactCents() throws Exception {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAccountId(testAccount.getId());
+        dto.setType("income");
+        dto.setCategory("Interest");
+        dto.setDate("2025-06-01");
+
+        // 0.1 + 0.2 is 0.30000000000000004 in double arithmetic
+        for (String amount : List.of("0.10", "0.20")) {
+            dto.setAmount(new BigDecimal(amount));
+            mockMvc.perform(post("/api/transactions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+        }
+        assertEquals(30L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+
+        mockMvc.perform(get("/api/transactions?sortBy=amount_asc"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"amount\":0.10")));
+
+        // Sub-cent amounts are rejected rather than silently rounded
+        dto.setAmount(new BigDecimal("1.005"));
+        mockMvc.perform(post("/api/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "john.doe@example.com")
     public void testCreateTransactionInvalidType() throws Exception {
         TransactionDTO dto = new TransactionDTO();
         dto.setAccountId(testAccount.getId());
-        dto.setAmount(200.0);
+        dto.setAmount(new BigDecimal("200.00"));
         dto.setType("invalid");
         dto.setCategory("Bonus");
         dto.setDate("2023-10-04");
@@ -147,7 +188,7 @@ public class TransactionControllerTest {
     public void testCreateTransactionInvalidDate() throws Exception {
         TransactionDTO dto = new TransactionDTO();
         dto.setAccountId(testAccount.getId());
-        dto.setAmount(75.0);
+        dto.setAmount(new BigDecimal("75.00"));
         dto.setType("expense");
         dto.setCategory("Rent");
         dto.setDate("invalid-date");
@@ -168,7 +209,11 @@ public class TransactionControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content.length()").value(2))
                 .andExpect(jsonPath("$.totalElements").value(2))
-                .andExpect(jsonPath("$.number").value(0));
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.content[0].accountId").value(testAccount.getId()))
+                .andExpect(jsonPath("$.content[0].account").doesNotExist())
+                .andExpect(jsonPath("$.content[0].user").doesNotExist())
+                .andExpect(jsonPath("$.accounts['" + testAccount.getId() + "'].name").value("Main"));
     }
 
     @Test
@@ -183,13 +228,34 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testGetTransactions_CategoryWildcardsMatchLiterally() throws Exception {
+        createTestTransaction("100% Juice", 4.0, "expense", "2025-02-01");
+        createTestTransaction("1000 Snacks", 6.0, "expense", "2025-02-02");
+        createTestTransaction("Gift_Card", 25.0, "expense", "2025-02-03");
+        createTestTransaction("GiftXCard", 30.0, "expense", "2025-02-04");
+
+        mockMvc.perform(get("/api/transactions").param("category", "0%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].category").value("100% Juice"));
+        mockMvc.perform(get("/api/transactions?category=t_c"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].category").value("Gift_Card"));
+        mockMvc.perform(get("/api/transactions?paging=cursor&category=t_c"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+    }
+
     @Test
     @WithMockUser(username = "john.doe@example.com")
     public void testUpdateTransactionSuccess() throws Exception {
         // Create initial transaction
         TransactionDTO createDTO = new TransactionDTO();
         createDTO.setAccountId(testAccount.getId());
-        createDTO.setAmount(50.0);
+        createDTO.setAmount(new BigDecimal("50.00"));
         createDTO.setType("expense");
         createDTO.setCategory("Food");
         createDTO.setDate("2023-10-01");
@@ -203,11 +269,11 @@ public class TransactionControllerTest {
         Long id = t.getId();
 
         // Verify initial balance decreased
-        assertEquals(-50.0, accountRepository.findById(testAccount.getId()).get().getBalance());
+        assertEquals(-5000L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
 
         // Update the transaction
         TransactionDTO updateDTO = new TransactionDTO();
-        updateDTO.setAmount(200.0);
+        updateDTO.setAmount(new BigDecimal("200.00"));
         updateDTO.setType("income");
         updateDTO.setCategory("Bonus");
         updateDTO.setDate("2023-10-02");
@@ -218,7 +284,7 @@ public class TransactionControllerTest {
                 .andExpect(status().isOk());
 
         // Verify balance recalculated
-        assertEquals(200.0, accountRepository.findById(testAccount.getId()).get().getBalance());
+        assertEquals(20000L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
     }
 
     @Test
@@ -240,7 +306,7 @@ public class TransactionControllerTest {
         // Create initial transaction
         TransactionDTO dto = new TransactionDTO();
         dto.setAccountId(testAccount.getId());
-        dto.setAmount(75.0);
+        dto.setAmount(new BigDecimal("75.00"));
         dto.setType("expense");
         dto.setCategory("Rent");
         dto.setDate("2023-10-01");
@@ -254,14 +320,14 @@ public class TransactionControllerTest {
         Long id = t.getId();
 
         // Balance should be negative
-        assertEquals(-75.0, accountRepository.findById(testAccount.getId()).get().getBalance());
+        assertEquals(-7500L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
 
         // Delete
         mockMvc.perform(delete("/api/transactions/" + id))
                 .andExpect(status().isOk());
 
         // Balance restored to zero
-        assertEquals(0.0, accountRepository.findById(testAccount.getId()).get().getBalance());
+        assertEquals(0L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
         assertEquals(0, transactionRepository.count());
     }
 
@@ -278,4 +344,186 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$.number").value(1))
                 .andExpect(jsonPath("$.size").value(10));
     }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testMonthlyRollupsFollowCreateUpdateDelete() throws Exception {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAccountId(testAccount.getId());
+        dto.setAmount(new BigDecimal("40.00"));
+        dto.setType("expense");
+        dto.setCategory("Food");
+        dto.setDate("2025-05-03");
+
+        mockMvc.perform(post("/api/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+        dto.setAmount(new BigDecimal("10.00"));
+        mockMvc.perform(post("/api/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+
+        List<MonthlyRollupEntity> rollups = monthlyRollupRepository.findAll();
+        assertEquals(1, rollups.size());
+        assertEquals(LocalDate.of(2025, 5, 1), rollups.get(0).getMonthStart());
+        assertEquals(5000L, rollups.get(0).getTotalCents());
+        assertEquals(2L, rollups.get(0).getTxnCount());
+
+        // Moving one transaction to another month splits the bucket
+        Long id = transactionRepository.findAll().get(0).getId();
+        TransactionDTO updateDTO = new TransactionDTO();
+        updateDTO.setDate("2025-06-01");
+        mockMvc.perform(put("/api/transactions/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+        assertEquals(2, monthlyRollupRepository.count());
+
+        for (TransactionEntity t : transactionRepository.findAll()) {
+            mockMvc.perform(delete("/api/transactions/" + t.getId()))
+                    .andExpect(status().isOk());
+        }
+        assertEquals(0, monthlyRollupRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testGetRecentTransactions_LimitedAndNewestFirst() throws Exception {
+        for (int i = 1; i <= 15; i++) {
+            createTestTransaction("Test", i, "expense", "2025-04-" + String.format("%02d", i));
+        }
+
+        mockMvc.perform(get("/api/transactions/recent?limit=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].amount").value(15.0))
+                .andExpect(jsonPath("$[0].accountName").value("Main"))
+                .andExpect(jsonPath("$[4].amount").value(11.0));
+
+        mockMvc.perform(get("/api/transactions/recent?limit=0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testGetTransactions_CursorPagingWalksForwardAndBack() throws Exception {
+        // Equal amounts force the id tiebreaker to decide the order
+        for (int i = 0; i < 5; i++) {
+            createTestTransaction("Test", 10.0, "expense", "2025-04-01");
+        }
+
+        String first = mockMvc.perform(get("/api/transactions?paging=cursor&sortBy=amount_desc&limit=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.prevCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String next = objectMapper.readTree(first).get("nextCursor").asText();
+
+        String second = mockMvc.perform(get("/api/transactions?sortBy=amount_desc&limit=2&cursor=" + next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String prev = objectMapper.readTree(second).get("prevCursor").asText();
+        String last = objectMapper.readTree(second).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/transactions?sortBy=amount_desc&limit=2&cursor=" + last))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // Going back from page two lands on page one again
+        long firstId = objectMapper.readTree(first).get("content").get(0).get("id").asLong();
+        mockMvc.perform(get("/api/transactions?sortBy=amount_desc&limit=2&cursor=" + prev))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(firstId))
+                .andExpect(jsonPath("$.prevCursor").doesNotExist());
+
+        // A cursor is only valid for the sort it was issued for
+        mockMvc.perform(get("/api/transactions?sortBy=date_asc&limit=2&cursor=" + next))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testImportCsv_BatchesRowsAndReportsErrors() throws Exception {
+        StringBuilder csv = new StringBuilder("amount,type,category,date,description\n");
+        for (int i = 0; i < 2500; i++) {
+            csv.append("1.00,expense,Food,2025-01-15,\"Lunch, downtown\"\n");
+        }
+        csv.append("abc,expense,Food,2025-01-15,\n");
+        csv.append("5.00,refund,Food,2025-01-15,\n");
+
+        mockMvc.perform(post("/api/transactions/import?accountId=" + testAccount.getId())
+                .contentType("text/csv")
+                .content(csv.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(2502))
+                .andExpect(jsonPath("$.imported").value(2500))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2502))
+                .andExpect(jsonPath("$.errors[1].message").value("Type must be 'income' or 'expense'"));
+
+        assertEquals(2500, transactionRepository.count());
+        assertEquals(-250000L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+        assertEquals("Lunch, downtown", transactionRepository.findAll().get(0).getDescription());
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testImportOfx() throws Exception {
+        String ofx = """
+            <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+            <STMTTRN>
+            <TRNTYPE>DEBIT
+            <DTPOSTED>20250301120000
+            <TRNAMT>-42.50
+            <NAME>Grocery Store
+            </STMTTRN>
+            <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20250302<TRNAMT>1000.00<NAME>Payroll</STMTTRN>
+            </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+            """;
+
+        mockMvc.perform(post("/api/transactions/import?format=ofx&category=Bank&accountId=" + testAccount.getId())
+                .contentType("application/x-ofx")
+                .content(ofx))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        assertEquals(95750L, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    public void testExportCsvAndNdjson() throws Exception {
+        createTestTransaction("Food", 12.5, "expense", "2025-02-01");
+        createTestTransaction("Salary", 2000.0, "income", "2025-02-15");
+        createTestTransaction("Food", 7.0, "expense", "2025-03-01");
+
+        MvcResult csv = mockMvc.perform(get("/api/transactions/export?format=csv&category=food&to=2025-02-28"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,accountId,accountName,amount,type,category,date,description", lines[0]);
+        assertTrue(lines[1].endsWith(",Main,12.50,expense,Food,2025-02-01,"));
+
+        MvcResult ndjson = mockMvc.perform(get("/api/transactions/export?format=ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String json = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(3, json.split("\n").length);
+        assertEquals("income", objectMapper.readTree(json.split("\n")[1]).get("type").asText());
+
+        mockMvc.perform(get("/api/transactions/export?format=xml"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,213 @@
+package com.budgetbuddy.controller;
+
+import com.budgetbuddy.FinanceApplication;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.TransactionEntity;
+import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
+import com.budgetbuddy.repository.TransactionRepository;
+import com.budgetbuddy.repository.UserRepository;
+import com.budgetbuddy.service.RollupService;
+import com.budgetbuddy.service.TransactionService;
+import com.budgetbuddy.util.JwtUtil;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load comparison of the two thread models (spring.threads.virtual.enabled=false/true) on the transaction list
+ * and dashboard endpoints. Tomcat's pool is kept small so the platform-thread cap shows up at test scale.
+ * Logs throughput and p99 per endpoint and writes them to target/benchmark-results/virtual-threads.txt;
+ * asserts only that every request succeeded, since timings vary by machine.
+ * A load test, tagged benchmark: run it with mvn test -Pbenchmark on a JDK 21+ runtime (the build targets 17,
+ * and virtual threads need 21), otherwise it is skipped.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadLoadComparisonTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadComparisonTest.class);
+
+    private static final Path RESULTS = Path.of("target", "benchmark-results", "virtual-threads.txt");
+
+    private static final int USERS = 20;
+    private static final int TRANSACTIONS_PER_USER = 200;
+    private static final int TOMCAT_THREADS = 20;
+    private static final int CONCURRENCY = 200;
+    private static final int REQUESTS = 4000;
+
+    private static final Map<String, String> ENDPOINTS = new LinkedHashMap<>();
+    static {
+        ENDPOINTS.put("list", "/api/transactions?page=0&limit=20");
+        ENDPOINTS.put("dashboard", "/api/dashboard/summary");
+    }
+
+    private record Result(double requestsPerSecond, double p99Millis, int failures) {}
+
+    @Test
+    public void testCompareThreadModels() throws Exception {
+        Map<String, Result> platform = run(false);
+        Map<String, Result> virtual = run(true);
+
+        List<String> table = new ArrayList<>();
+        table.add(String.format("%-10s %-9s %10s %10s", "endpoint", "threads", "req/s", "p99 ms"));
+        for (String endpoint : ENDPOINTS.keySet()) {
+            table.add(row(endpoint, "platform", platform.get(endpoint)));
+            table.add(row(endpoint, "virtual", virtual.get(endpoint)));
+        }
+        table.forEach(logger::info);
+        Files.createDirectories(RESULTS.getParent());
+        Files.write(RESULTS, table);
+
+        for (String endpoint : ENDPOINTS.keySet()) {
+            assertEquals(0, platform.get(endpoint).failures(), endpoint + " (platform)");
+            assertEquals(0, virtual.get(endpoint).failures(), endpoint + " (virtual)");
+        }
+    }
+
+    private static String row(String endpoint, String threads, Result r) {
+        return String.format("%-10s %-9s %10.0f %10.1f", endpoint, threads, r.requestsPerSecond(), r.p99Millis());
+    }
+
+    private Map<String, Result> run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FinanceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        // Measure the database path, not the dashboard cache or load shedding
+                        "dashboard.cache.enabled=false",
+                        "bulkhead.enabled=false")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            List<String> tokens = seed(context);
+
+            Map<String, Result> results = new LinkedHashMap<>();
+            for (Map.Entry<String, String> endpoint : ENDPOINTS.entrySet()) {
+                load(port, endpoint.getValue(), tokens, REQUESTS / 10); // warm-up
+                results.put(endpoint.getKey(), load(port, endpoint.getValue(), tokens, REQUESTS));
+            }
+            return results;
+        }
+    }
+
+    private List<String> seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        TransactionRepository transactionRepository = context.getBean(TransactionRepository.class);
+        MonthlyRollupRepository monthlyRollupRepository = context.getBean(MonthlyRollupRepository.class);
+        TransactionService transactionService = context.getBean(TransactionService.class);
+        RollupService rollupService = context.getBean(RollupService.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+
+        monthlyRollupRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        List<String> tokens = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().minusMonths(6);
+        for (int u = 0; u < USERS; u++) {
+            UserEntity user = new UserEntity();
+            user.setFirstName("Load");
+            user.setLastName("User" + u);
+            user.setEmail("load" + u + "@example.com");
+            user.setPasswordHash("$2a$10$hashed");
+            user = userRepository.save(user);
+
+            AccountEntity account = new AccountEntity();
+            account.setUser(user);
+            account.setName("Main");
+            account.setType(AccountEntity.AccountType.checking);
+            account = accountRepository.save(account);
+
+            List<TransactionEntity> rows = new ArrayList<>();
+            for (int i = 0; i < TRANSACTIONS_PER_USER; i++) {
+                TransactionEntity t = new TransactionEntity();
+                t.setAccount(account);
+                t.setUser(user);
+                t.setAmountCents(100 + i);
+                t.setType(i % 3 == 0 ? TransactionEntity.TransactionType.INCOME : TransactionEntity.TransactionType.EXPENSE);
+                t.setCategory("Category " + (i % 8));
+                t.setDate(start.plusHours(i * 20L));
+                rows.add(t);
+            }
+            transactionService.saveAll(rows);
+            rollupService.rebuildForUser(user.getId());
+
+            tokens.add(jwtUtil.generateToken(user.getId(), user.getEmail()));
+        }
+        return tokens;
+    }
+
+    private Result load(int port, String path, List<String> tokens, int requests) throws Exception {
+        ExecutorService clientIo = Executors.newFixedThreadPool(8);
+        HttpClient client = HttpClient.newBuilder().executor(clientIo).build();
+        URI uri = URI.create("http://localhost:" + port + path);
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        long began = System.nanoTime();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int c = 0; c < CONCURRENCY; c++) {
+            workers.add(clients.submit(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Authorization", "Bearer " + tokens.get(i % tokens.size()))
+                            .GET().build();
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - sent;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - began;
+        clients.shutdown();
+        clientIo.shutdown();
+
+        Arrays.sort(latencies);
+        double p99 = latencies[(int) Math.ceil(requests * 0.99) - 1] / 1_000_000.0;
+        return new Result(requests * 1_000_000_000.0 / elapsed, p99, failures.get());
+    }
+}
@@ -0,0 +1,192 @@
+package com.budgetbuddy.repository;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the real migrations on PostgreSQL, loads enough rows for the planner to care, and checks that the
+ * hot TransactionRepository queries are served by the indexes from db/migrations instead of a sequential scan.
+ * Each test calls the repository, captures the SQL Hibernate sent, and EXPLAINs that statement as a generic
+ * plan (the one a prepared statement settles on).
+ * Needs Docker, so it is tagged postgres and only runs with mvn test -Ppostgres, where a missing Docker fails it.
+ */
+@Tag("postgres")
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+public class TransactionQueryPlanTest {
+
+    private static final long USER_ID = 42;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final SqlCapture capturedSql = new SqlCapture();
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        public HibernatePropertiesCustomizer captureSql() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, capturedSql);
+        }
+    }
+
+    /** Records every statement Hibernate prepares, unchanged */
+    static class SqlCapture implements StatementInspector {
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void seedOnce() {
+        if (!seeded) {
+            // 200 users x 500 transactions; Flyway has already migrated the empty database
+            jdbcTemplate.execute("""
+                INSERT INTO users (first_name, last_name, email, password_hash)
+                SELECT 'First', 'Last', 'user' || g || '@example.com', 'hash' FROM generate_series(1, 200) g
+                """);
+            jdbcTemplate.execute("""
+                INSERT INTO accounts (user_id, name, type, balance_cents)
+                SELECT id, 'Main', 'checking', 0 FROM users
+                """);
+            jdbcTemplate.execute("""
+                INSERT INTO transactions (account_id, user_id, amount_cents, type, category, date, description)
+                SELECT a.id, a.user_id, (g * 7919) % 100000,
+                       CASE WHEN g % 3 = 0 THEN 'INCOME' ELSE 'EXPENSE' END,
+                       'Category ' || (g % 20),
+                       TIMESTAMP '2024-01-01' + (g % 700) * INTERVAL '1 day',
+                       'Row ' || g
+                FROM accounts a, generate_series(1, 500) g
+                """);
+            jdbcTemplate.execute("ANALYZE");
+            seeded = true;
+        }
+        capturedSql.statements.clear();
+    }
+
+    // The one statement the call just sent that matches, e.g. the page query rather than its count
+    private String captured(String mustContain, String mustNotContain) {
+        List<String> matching = capturedSql.statements.stream()
+                .filter(sql -> sql.toLowerCase().contains(mustContain))
+                .filter(sql -> mustNotContain == null || !sql.toLowerCase().contains(mustNotContain))
+                .toList();
+        assertEquals(1, matching.size(), "captured " + capturedSql.statements);
+        return matching.get(0);
+    }
+
+    private String explain(String sql) {
+        // JDBC placeholders become $1, $2, ... so PostgreSQL can plan the statement without values
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class);
+        return sql + "\n" + String.join("\n", lines);
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = explain(sql);
+        assertFalse(plan.contains("Seq Scan on transactions"), "sequential scan:\n" + plan);
+        assertTrue(plan.contains(index), "expected " + index + ":\n" + plan);
+    }
+
+    @Test
+    public void testDateOrderedPageUsesUserDateIndex() {
+        transactionRepository.findListByUserId(USER_ID,
+                PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "date", "id")));
+        assertUsesIndex(captured("from transactions", "count("), "idx_transactions_user_date_id");
+    }
+
+    @Test
+    public void testAmountOrderedPageUsesUserAmountIndex() {
+        transactionRepository.findListByUserId(USER_ID,
+                PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "amountCents", "id")));
+        assertUsesIndex(captured("from transactions", "count("), "idx_transactions_user_amount_id");
+    }
+
+    @Test
+    public void testPageCountAvoidsSequentialScan() {
+        transactionRepository.findListByUserId(USER_ID,
+                PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "date", "id")));
+        String plan = explain(captured("count(", null));
+        assertFalse(plan.contains("Seq Scan on transactions"), "sequential scan:\n" + plan);
+    }
+
+    @Test
+    public void testKeysetPageUsesUserDateIndex() {
+        ScrollPosition after = ScrollPosition.forward(Map.of("date", LocalDateTime.of(2025, 6, 1, 0, 0), "id", 50000L));
+        transactionRepository.findListByUserId(USER_ID, after, Sort.by(Sort.Direction.DESC, "date", "id"), Limit.of(20));
+        assertUsesIndex(captured("from transactions", null), "idx_transactions_user_date_id");
+    }
+
+    @Test
+    public void testRecentTransactionsUseUserDateIndex() {
+        transactionRepository.findRecentByUserId(USER_ID, PageRequest.of(0, 10));
+        assertUsesIndex(captured("from transactions", null), "idx_transactions_user_date_id");
+    }
+
+    @Test
+    public void testExportRangeUsesUserDateIndex() {
+        // The export cursor only exists inside a transaction
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try (Stream<TransactionExportView> rows = transactionRepository.streamForExport(USER_ID, "",
+                    LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 4, 1, 0, 0))) {
+                rows.findFirst();
+            }
+        });
+        assertUsesIndex(captured("from transactions", null), "idx_transactions_user_date_id");
+    }
+}
@@ -0,0 +1,161 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.DashboardCacheProperties;
+import com.budgetbuddy.config.DashboardParallelProperties;
+import com.budgetbuddy.config.ReadCoalescingProperties;
+import com.budgetbuddy.dto.DashboardSummaryDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stale-while-revalidate behaviour of DashboardCache: aged-out summaries are served stale while one
+ * background refresh runs, invalidated ones only when a fresh summary can't be computed.
+ */
+public class DashboardCacheTest {
+
+    private static final Long USER = 1L;
+
+    private ExecutorService refreshExecutor;
+    private DashboardCacheProperties properties;
+    private DashboardCache cache;
+
+    @BeforeEach
+    public void setup() {
+        refreshExecutor = Executors.newSingleThreadExecutor();
+        properties = new DashboardCacheProperties();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReadCoalescer coalescer = new ReadCoalescer(new ReadCoalescingProperties(), new DashboardParallelProperties(),
+                registry);
+        cache = new DashboardCache(properties, coalescer, refreshExecutor, registry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private static DashboardSummaryDTO summary(long balance) {
+        return new DashboardSummaryDTO(BigDecimal.valueOf(balance), List.of(), List.of(), List.of());
+    }
+
+    private static Supplier<DashboardSummaryDTO> failing() {
+        return () -> {
+            throw new ServiceBusyException("Dashboard is temporarily unavailable, please retry shortly");
+        };
+    }
+
+    @Test
+    public void testInvalidatedSummaryIsServedStaleOnlyWhenLoadingFails() {
+        cache.get(USER, () -> summary(100));
+        cache.invalidate(USER);
+
+        // Healthy database: the write is visible straight away
+        DashboardSummaryDTO fresh = cache.get(USER, () -> summary(150));
+        assertEquals(BigDecimal.valueOf(150), fresh.getTotalBalance());
+        assertFalse(fresh.isStale());
+
+        cache.invalidate(USER);
+        DashboardSummaryDTO stale = cache.get(USER, failing());
+        assertEquals(BigDecimal.valueOf(150), stale.getTotalBalance());
+        assertTrue(stale.isStale());
+        assertNotNull(stale.getAsOf());
+        assertEquals(1, cache.getStaleServed());
+    }
+
+    @Test
+    public void testFailureWithoutLastGoodSummaryIsRethrown() {
+        assertThrows(ServiceBusyException.class, () -> cache.get(USER, failing()));
+    }
+
+    @Test
+    public void testExpiredSummaryIsServedStaleWhileOneRefreshRuns() throws Exception {
+        properties.setTtl(Duration.ofMillis(1));
+        cache.get(USER, () -> summary(100));
+        Thread.sleep(5);
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger refreshes = new AtomicInteger();
+        Supplier<DashboardSummaryDTO> slowLoader = () -> {
+            refreshes.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return summary(200);
+        };
+
+        for (int i = 0; i < 5; i++) {
+            DashboardSummaryDTO served = cache.get(USER, slowLoader);
+            assertTrue(served.isStale());
+            assertEquals(BigDecimal.valueOf(100), served.getTotalBalance());
+        }
+
+        properties.setTtl(Duration.ofMinutes(1));
+        release.countDown();
+        refreshExecutor.shutdown();
+        assertTrue(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1, refreshes.get());
+        DashboardSummaryDTO refreshed = cache.get(USER, failing());
+        assertFalse(refreshed.isStale());
+        assertEquals(BigDecimal.valueOf(200), refreshed.getTotalBalance());
+    }
+
+    @Test
+    public void testOnlyTheUsersOwnWritesDiscardAnInFlightLoad() {
+        Long other = 2L;
+
+        // Another user's write while this user's summary is computed: it is still cached
+        cache.get(USER, () -> {
+            cache.invalidate(other);
+            return summary(100);
+        });
+        assertEquals(BigDecimal.valueOf(100), cache.get(USER, failing()).getTotalBalance());
+        assertEquals(1, cache.getHits());
+
+        // The user's own write while it is computed: the summary may predate it, so it isn't stored
+        cache.get(other, () -> {
+            cache.invalidate(other);
+            return summary(300);
+        });
+        assertThrows(ServiceBusyException.class, () -> cache.get(other, failing()));
+    }
+
+    @Test
+    public void testAsyncLoadsShareTheEntries() {
+        AtomicInteger subscribed = new AtomicInteger();
+        Mono<DashboardSummaryDTO> loader = Mono.fromSupplier(() -> {
+            subscribed.incrementAndGet();
+            return summary(200);
+        });
+
+        assertEquals(BigDecimal.valueOf(200), cache.getAsync(USER, loader).block().getTotalBalance());
+        // A hit from either side never runs the loader
+        assertEquals(BigDecimal.valueOf(200), cache.get(USER, failing()).getTotalBalance());
+        assertEquals(BigDecimal.valueOf(200), cache.getAsync(USER, loader).block().getTotalBalance());
+        assertEquals(1, subscribed.get());
+
+        cache.invalidate(USER);
+        DashboardSummaryDTO stale = cache.getAsync(USER, Mono.error(
+                new ServiceBusyException("Dashboard is temporarily unavailable, please retry shortly"))).block();
+        assertTrue(stale.isStale());
+        assertEquals(BigDecimal.valueOf(200), stale.getTotalBalance());
+    }
+}
@@ -0,0 +1,128 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.dto.DashboardSummaryDTO;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+
+/**
+ * The three ways DashboardService computes a summary: on the dashboard pool, on the request thread when the
+ * pool is saturated, and failing with a 503-mapped ServiceBusyException once the deadline passes.
+ * Cache, coalescing and breaker are off so every call computes.
+ */
+@SpringBootTest(properties = {
+        "dashboard.cache.enabled=false",
+        "dashboard.breaker.enabled=false",
+        "read-coalescing.enabled=false",
+        "dashboard.parallel.threads=4",
+        "dashboard.parallel.queue-capacity=4",
+        "dashboard.parallel.timeout=300ms"
+})
+@ActiveProfiles("test")
+public class DashboardServiceTest {
+
+    private static final Long USER = 1L;
+
+    @Autowired private DashboardService dashboardService;
+    @Autowired @Qualifier("dashboardExecutor") private ExecutorService dashboardExecutor;
+    @SpyBean private MonthlyRollupRepository monthlyRollupRepository;
+
+    private final AtomicReference<String> categoryThread = new AtomicReference<>();
+
+    @BeforeEach
+    public void setup() throws Exception {
+        // Previous tests' tasks are gone
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) dashboardExecutor;
+        while (pool.getActiveCount() > 0 || !pool.getQueue().isEmpty()) {
+            Thread.sleep(5);
+        }
+        doAnswer(invocation -> {
+            categoryThread.set(Thread.currentThread().getName());
+            return List.of();
+        }).when(monthlyRollupRepository).sumExpenseByCategory(any(), any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        reset(monthlyRollupRepository);
+    }
+
+    @Test
+    public void testPartsRunOnTheDashboardPool() {
+        DashboardSummaryDTO summary = dashboardService.getDashboardSummary(USER);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(summary.getTotalBalance()));
+        assertEquals(12, summary.getMonthlyIncomeExpense().size());
+        assertTrue(categoryThread.get().startsWith("dashboard-"), categoryThread.get());
+    }
+
+    @Test
+    public void testSaturatedPoolFallsBackToTheRequestThread() throws Exception {
+        // All four workers busy, then a full queue
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<Void> blocker = () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        };
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) dashboardExecutor;
+        for (int i = 0; i < 4; i++) {
+            pool.submit(blocker);
+        }
+        while (pool.getActiveCount() < 4) {
+            Thread.sleep(5);
+        }
+        for (int i = 0; i < 4; i++) {
+            pool.submit(blocker);
+        }
+        try {
+            DashboardSummaryDTO summary = dashboardService.getDashboardSummary(USER);
+
+            assertEquals(12, summary.getMonthlyIncomeExpense().size());
+            assertEquals(Thread.currentThread().getName(), categoryThread.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testTimeoutInterruptsTheSlowPart() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return List.of();
+        }).when(monthlyRollupRepository).sumExpenseByCategory(any(), any());
+
+        long start = System.nanoTime();
+        assertThrows(ServiceBusyException.class, () -> dashboardService.getDashboardSummary(USER));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+        // The worker is freed rather than left waiting on the query
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+}
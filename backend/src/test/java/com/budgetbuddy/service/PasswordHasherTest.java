@@ -0,0 +1,86 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+
+    private ThreadPoolExecutor executor;
+    private SimpleMeterRegistry registry;
+    private PasswordHashingProperties properties;
+    private PasswordHasher hasher;
+
+    @BeforeEach
+    public void setup() {
+        properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(4);
+        executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        registry = new SimpleMeterRegistry();
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), executor, properties, registry);
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEncodeAndMatchOnPool() {
+        String hash = hasher.encode("secret");
+        assertTrue(hasher.matches("secret", hash));
+        assertFalse(hasher.matches("wrong", hash));
+        assertEquals(1, registry.get("auth.password.hash").tag("op", "encode").timer().count());
+        assertEquals(2, registry.get("auth.password.hash").tag("op", "matches").timer().count());
+    }
+
+    @Test
+    public void testFullPoolIsRejectedImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        // Occupy the single worker and the single queue slot
+        executor.submit(() -> { release.await(); return null; });
+        executor.submit(() -> { release.await(); return null; });
+
+        long start = System.nanoTime();
+        assertThrows(ServiceBusyException.class, () -> hasher.encode("secret"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(1.0, registry.get("auth.password.rejected").counter().count());
+        assertEquals(1.0, registry.get("auth.password.queue.depth").gauge().value());
+
+        release.countDown();
+    }
+
+    @Test
+    public void testTimedOutHashIsDroppedFromTheQueue() throws Exception {
+        properties.setTimeout(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> { release.await(); return null; });
+
+        assertThrows(ServiceBusyException.class, () -> hasher.encode("secret"));
+        assertEquals(1.0, registry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, registry.get("auth.password.hash").tag("op", "encode").timer().count());
+    }
+
+    @Test
+    public void testNeedsRehashWhenCostDiffers() {
+        assertFalse(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("secret")));
+        assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("secret")));
+        assertFalse(hasher.needsRehash("not-a-bcrypt-hash"));
+    }
+}
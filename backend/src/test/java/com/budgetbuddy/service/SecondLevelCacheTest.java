@@ -0,0 +1,140 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.dto.AccountDTO;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.repository.AccountRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private AccountService accountService;
+    @Autowired private ProfileService profileService;
+    @Autowired private TransactionService transactionService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private UserEntity testUser;
+    private AccountEntity testAccount;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        testAccount = fixtures.resetToMainAccount();
+        testUser = testAccount.getUser();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private List<AccountEntity> accountsOf(Long userId) {
+        List<AccountEntity> accounts = new ArrayList<>();
+        accountService.getAccountsByUserId(userId).forEach(accounts::add);
+        return accounts;
+    }
+
+    @Test
+    public void testAccountReadsAreServedFromTheCache() {
+        accountRepository.findById(testAccount.getId());
+        accountRepository.findById(testAccount.getId());
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("accounts");
+        assertTrue(region.getHitCount() >= 1, "expected a cache hit, got " + region.getHitCount());
+    }
+
+    @Test
+    public void testAccountsByUserQueryIsCachedAndSeesNewAccounts() {
+        Long userId = testUser.getId();
+        assertEquals(1, accountsOf(userId).size());
+        assertEquals(1, accountsOf(userId).size());
+        assertTrue(statistics.getQueryRegionStatistics("accounts-by-user").getHitCount() >= 1);
+
+        AccountDTO dto = new AccountDTO();
+        dto.setName("Savings");
+        dto.setType("savings");
+        accountService.createAccount(userId, dto);
+
+        assertEquals(2, accountsOf(userId).size());
+    }
+
+    @Test
+    public void testAccountUpdateRefreshesTheCachedRow() {
+        Long userId = testUser.getId();
+        accountRepository.findById(testAccount.getId());
+
+        AccountDTO dto = new AccountDTO();
+        dto.setName("Everyday");
+        accountService.updateAccount(userId, testAccount.getId(), dto);
+
+        assertEquals("Everyday", accountRepository.findById(testAccount.getId()).get().getName());
+        assertEquals("Everyday", accountsOf(userId).get(0).getName());
+    }
+
+    @Test
+    public void testBalanceAdjustmentEvictsOnlyTheAdjustedRow() {
+        Long userId = testUser.getId();
+        AccountEntity savings = new AccountEntity();
+        savings.setUser(testUser);
+        savings.setName("Savings");
+        savings.setType(AccountEntity.AccountType.savings);
+        savings = accountRepository.save(savings);
+        accountRepository.findById(testAccount.getId());
+        accountRepository.findById(savings.getId());
+        assertEquals(2, accountsOf(userId).size());
+
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAccountId(testAccount.getId());
+        dto.setAmount(new BigDecimal("25.00"));
+        dto.setType("income");
+        dto.setCategory("Salary");
+        dto.setDate("2025-05-10");
+        transactionService.createTransaction(userId, dto);
+        statistics.clear();
+
+        assertEquals(2500, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+        accountRepository.findById(savings.getId());
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("accounts");
+        assertEquals(1, region.getMissCount());
+        assertEquals(1, region.getHitCount());
+
+        // The cached id list survives the posting and resolves to the new balance
+        List<AccountEntity> accounts = accountsOf(userId);
+        assertEquals(1, statistics.getQueryRegionStatistics("accounts-by-user").getHitCount());
+        assertEquals(2500, accounts.stream()
+                .filter(a -> a.getId().equals(testAccount.getId())).findFirst().get().getBalanceCents());
+    }
+
+    @Test
+    public void testProfileUpdateRefreshesTheCachedUser() {
+        Long userId = testUser.getId();
+        profileService.getUser(userId);
+
+        profileService.updateName(userId, "Jane", "Roe");
+
+        UserEntity user = profileService.getUser(userId);
+        assertEquals("Jane", user.getFirstName());
+        assertEquals("Roe", user.getLastName());
+        assertTrue(statistics.getDomainDataRegionStatistics("users").getHitCount() >= 1);
+    }
+}
@@ -0,0 +1,145 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.dto.AccountDTO;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.TransactionEntity;
+import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Each service call should check out exactly one pooled connection: one transaction per request,
+ * not one per repository call.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class TransactionBoundaryTest {
+
+    private static final AtomicLong checkouts = new AtomicLong();
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                checkouts.incrementAndGet();
+                                return super.getConnection();
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TransactionService transactionService;
+    @Autowired private AccountService accountService;
+    @Autowired private DashboardService dashboardService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private MonthlyRollupRepository monthlyRollupRepository;
+
+    private UserEntity testUser;
+    private AccountEntity testAccount;
+
+    @BeforeEach
+    public void setup() {
+        testAccount = fixtures.resetToMainAccount();
+        testUser = testAccount.getUser();
+    }
+
+    private TransactionDTO posting(String category, String amount) {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAccountId(testAccount.getId());
+        dto.setAmount(new BigDecimal(amount));
+        dto.setType("expense");
+        dto.setCategory(category);
+        dto.setDate("2025-05-10");
+        return dto;
+    }
+
+    private long checkoutsDuring(Runnable call) {
+        long before = checkouts.get();
+        call.run();
+        return checkouts.get() - before;
+    }
+
+    @Test
+    public void testTransactionWritesUseOneConnection() {
+        Long userId = testUser.getId();
+        TransactionEntity[] created = new TransactionEntity[1];
+
+        // First posting also creates its rollup bucket
+        assertEquals(1, checkoutsDuring(() -> created[0] = transactionService.createTransaction(userId, posting("Food", "12.50"))));
+
+        TransactionDTO update = new TransactionDTO();
+        update.setCategory("Travel");
+        assertEquals(1, checkoutsDuring(() -> transactionService.updateTransaction(userId, created[0].getId(), update)));
+
+        assertEquals(1, checkoutsDuring(() -> transactionService.deleteTransaction(userId, created[0].getId())));
+
+        assertEquals(0, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+        assertEquals(0, monthlyRollupRepository.count());
+    }
+
+    @Test
+    public void testReadsUseOneConnection() {
+        Long userId = testUser.getId();
+        transactionService.createTransaction(userId, posting("Food", "5.00"));
+
+        assertEquals(1, checkoutsDuring(() -> transactionService.getTransactions(userId, null, "date_desc", 0, 20)));
+        assertEquals(1, checkoutsDuring(() -> transactionService.getTransactionsByCursor(userId, null, "date_desc", null, 20)));
+        assertEquals(1, checkoutsDuring(() -> accountService.getAccountsByUserId(userId)));
+    }
+
+    @Test
+    public void testAccountWritesUseOneConnection() {
+        Long userId = testUser.getId();
+        transactionService.createTransaction(userId, posting("Food", "5.00"));
+
+        AccountDTO dto = new AccountDTO();
+        dto.setName("Savings");
+        dto.setType("savings");
+        AccountEntity[] created = new AccountEntity[1];
+        assertEquals(1, checkoutsDuring(() -> created[0] = accountService.createAccount(userId, dto)));
+
+        // Deleting an account also rebuilds the user's rollups, still inside the same transaction
+        assertEquals(1, checkoutsDuring(() -> accountService.deleteAccount(userId, created[0].getId())));
+        assertEquals(1, monthlyRollupRepository.count());
+    }
+
+    @Test
+    public void testCachedDashboardDoesNotTouchThePool() {
+        Long userId = testUser.getId();
+        dashboardService.getDashboardSummary(userId);
+
+        assertEquals(0, checkoutsDuring(() -> dashboardService.getDashboardSummary(userId)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.TransactionEntity;
+import com.budgetbuddy.entity.UserEntity;
+import com.budgetbuddy.repository.TransactionRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Row-at-a-time saves against the batched saveAll path. Logs throughput for both;
+ * asserts only on statement counts, which unlike timings are stable across machines.
+ * Tagged benchmark, so it only runs with -Pbenchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class TransactionBulkInsertBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionBulkInsertBenchmarkTest.class);
+
+    private static final int ROWS = 2000;
+    private static final int CHUNK = 500;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TransactionService transactionService;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private UserEntity testUser;
+    private AccountEntity testAccount;
+
+    @BeforeEach
+    public void setup() {
+        testAccount = fixtures.resetToMainAccount();
+        testUser = testAccount.getUser();
+    }
+
+    private List<TransactionEntity> rows(int count) {
+        List<TransactionEntity> rows = new ArrayList<>(count);
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int i = 0; i < count; i++) {
+            TransactionEntity t = new TransactionEntity();
+            t.setAccount(testAccount);
+            t.setUser(testUser);
+            t.setAmountCents(100 + i);
+            t.setType(i % 2 == 0 ? TransactionEntity.TransactionType.EXPENSE : TransactionEntity.TransactionType.INCOME);
+            t.setCategory("Category " + (i % 10));
+            t.setDate(date.plusHours(i));
+            rows.add(t);
+        }
+        return rows;
+    }
+
+    @Test
+    public void testBatchedSaveAllUsesFarFewerStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (TransactionEntity t : rows(ROWS)) {
+            transactionRepository.save(t);
+        }
+        long singleNanos = System.nanoTime() - start;
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        transactionRepository.deleteAllInBatch();
+
+        statistics.clear();
+        start = System.nanoTime();
+        List<TransactionEntity> all = rows(ROWS);
+        for (int i = 0; i < ROWS; i += CHUNK) {
+            transactionService.saveAll(all.subList(i, Math.min(i + CHUNK, ROWS)));
+        }
+        long batchedNanos = System.nanoTime() - start;
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        logger.info("row-at-a-time: {} rows/s, {} statements; saveAll: {} rows/s, {} statements",
+                ROWS * 1_000_000_000L / singleNanos, singleStatements,
+                ROWS * 1_000_000_000L / batchedNanos, batchedStatements);
+
+        assertEquals(ROWS, transactionRepository.count());
+        assertTrue(batchedStatements * 10 < singleStatements,
+                "expected batched inserts, got " + batchedStatements + " vs " + singleStatements + " statements");
+    }
+}
@@ -0,0 +1,81 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.MonthlyRollupEntity;
+import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
+import com.budgetbuddy.repository.TransactionRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TransactionImportServiceTest {
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TransactionImportService transactionImportService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private MonthlyRollupRepository monthlyRollupRepository;
+
+    private AccountEntity testAccount;
+
+    @BeforeEach
+    public void setup() {
+        testAccount = fixtures.resetToMainAccount();
+    }
+
+    // A 1.00 income per row after the header
+    private static String csv(int rows) {
+        StringBuilder csv = new StringBuilder("amount,type,category,date\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("1.00,income,Salary,2025-03-").append(10 + i % 10).append('\n');
+        }
+        return csv.toString();
+    }
+
+    @Test
+    public void testBrokenUploadKeepsBalancesAndRollupsInStepWithCommittedRows() {
+        // 1500 rows arrive, then the connection drops: the first batch of 1000 is already committed
+        InputStream sent = new ByteArrayInputStream(csv(1500).getBytes(StandardCharsets.UTF_8));
+        InputStream broken = new SequenceInputStream(sent, new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset by peer");
+            }
+        });
+
+        Long userId = testAccount.getUser().getId();
+        assertThrows(IOException.class, () -> transactionImportService.importCsv(userId, broken, testAccount.getId()));
+
+        long rows = transactionRepository.count();
+        assertEquals(1000, rows);
+        assertEquals(rows * 100, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+        assertEquals(rows, monthlyRollupRepository.findAll().stream().mapToLong(MonthlyRollupEntity::getTxnCount).sum());
+        assertEquals(rows * 100, monthlyRollupRepository.findAll().stream().mapToLong(MonthlyRollupEntity::getTotalCents).sum());
+    }
+
+    @Test
+    public void testCompleteUploadAppliesEveryBatch() throws Exception {
+        InputStream in = new ByteArrayInputStream(csv(2500).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2500, transactionImportService.importCsv(testAccount.getUser().getId(), in, testAccount.getId())
+                .getImported());
+        assertEquals(250000, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+        assertEquals(2500, monthlyRollupRepository.findAll().stream().mapToLong(MonthlyRollupEntity::getTxnCount).sum());
+    }
+}
@@ -0,0 +1,106 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.UserEntity;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The list and dashboard reads must issue the same number of statements whether a user has
+ * a handful of transactions or many, spread over several accounts.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "dashboard.cache.enabled=false"
+})
+@ActiveProfiles("test")
+public class TransactionQueryCountTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TransactionService transactionService;
+    @Autowired private DashboardService dashboardService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private UserEntity testUser;
+    private final List<AccountEntity> accounts = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        fixtures.deleteAll();
+        accounts.clear();
+
+        testUser = fixtures.saveJohnDoe();
+        for (String name : List.of("Main", "Savings", "Card")) {
+            accounts.add(fixtures.saveAccount(testUser, name, 0));
+        }
+    }
+
+    private void postTransactions(int count) {
+        for (int i = 0; i < count; i++) {
+            TransactionDTO dto = new TransactionDTO();
+            dto.setAccountId(accounts.get(i % accounts.size()).getId());
+            dto.setAmount(BigDecimal.valueOf(100 + i, 2));
+            dto.setType(i % 2 == 0 ? "expense" : "income");
+            dto.setCategory("Category " + (i % 4));
+            dto.setDate("2025-0" + (1 + i % 9) + "-15");
+            transactionService.createTransaction(testUser.getId(), dto);
+        }
+    }
+
+    private long statementsDuring(Runnable call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long[] readStatementCounts() {
+        Long userId = testUser.getId();
+        return new long[] {
+                statementsDuring(() -> transactionService.getTransactions(userId, null, "date_desc", 1, PAGE_SIZE)),
+                statementsDuring(() -> transactionService.getTransactionsByCursor(userId, null, "date_desc", null, PAGE_SIZE)),
+                statementsDuring(() -> dashboardService.getDashboardSummary(userId))
+        };
+    }
+
+    @Test
+    public void testListAndDashboardStatementCountsDoNotGrowWithData() {
+        postTransactions(2 * PAGE_SIZE);
+        long[] small = readStatementCounts();
+
+        postTransactions(10 * PAGE_SIZE);
+        long[] large = readStatementCounts();
+
+        assertEquals(small[0], large[0], "offset page");
+        assertEquals(small[1], large[1], "cursor page");
+        assertEquals(small[2], large[2], "dashboard");
+    }
+
+    @Test
+    public void testListPagesDoNotLoadAccountsOrUsersPerRow() {
+        postTransactions(4 * PAGE_SIZE);
+        Long userId = testUser.getId();
+
+        // Page query + COUNT + one lookup for the page's account table
+        assertEquals(3, statementsDuring(() -> transactionService.getTransactions(userId, null, "date_desc", 1, PAGE_SIZE)));
+        // Window query + one lookup for the page's account table
+        assertEquals(2, statementsDuring(() -> transactionService.getTransactionsByCursor(userId, null, "date_desc", null, PAGE_SIZE)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.budgetbuddy.service;
+
+import com.budgetbuddy.TestFixtures;
+import com.budgetbuddy.dto.TransactionDTO;
+import com.budgetbuddy.entity.AccountEntity;
+import com.budgetbuddy.entity.MonthlyRollupEntity;
+import com.budgetbuddy.repository.AccountRepository;
+import com.budgetbuddy.repository.MonthlyRollupRepository;
+import com.budgetbuddy.repository.TransactionRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TransactionServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int POSTINGS = 2000;
+
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TransactionService transactionService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private MonthlyRollupRepository monthlyRollupRepository;
+
+    private AccountEntity testAccount;
+
+    @BeforeEach
+    public void setup() {
+        testAccount = fixtures.resetToMainAccount();
+    }
+
+    @Test
+    public void testParallelPostingsToOneAccountDoNotLoseUpdates() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        Long userId = testAccount.getUser().getId();
+        long expectedCents = 0;
+        for (int i = 0; i < POSTINGS; i++) {
+            boolean income = i % 3 != 0;
+            long amountCents = (i % 7) * 100 + 1 + i % 100;
+            expectedCents += income ? amountCents : -amountCents;
+
+            TransactionDTO dto = new TransactionDTO();
+            dto.setAccountId(testAccount.getId());
+            dto.setAmount(BigDecimal.valueOf(amountCents, 2));
+            dto.setType(income ? "income" : "expense");
+            // Every posting lands in one of two rollup buckets to stress those rows as well
+            dto.setCategory(income ? "Salary" : "Food");
+            dto.setDate("2025-05-10");
+
+            futures.add(pool.submit(() -> {
+                start.await();
+                return transactionService.createTransaction(userId, dto);
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        assertEquals(POSTINGS, transactionRepository.count());
+        assertEquals(expectedCents, accountRepository.findById(testAccount.getId()).get().getBalanceCents());
+
+        long rolledUpCount = monthlyRollupRepository.findAll().stream().mapToLong(MonthlyRollupEntity::getTxnCount).sum();
+        assertEquals(POSTINGS, rolledUpCount);
+    }
+}
@@ -0,0 +1,64 @@
+package com.budgetbuddy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkheadTest {
+
+    @Test
+    public void testRejectsOverLimitUntilReleased() {
+        Bulkhead bulkhead = new Bulkhead(2, Duration.ZERO);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertEquals(2, bulkhead.getActive());
+
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(1, bulkhead.getRejected());
+
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+        assertEquals(1, bulkhead.getRejected());
+    }
+
+    @Test
+    public void testWaitsUpToMaxWait() {
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ofMillis(50));
+        assertTrue(bulkhead.tryAcquire());
+
+        long start = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testWaitingCallerGetsReleasedPermit() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ofSeconds(5));
+        assertTrue(bulkhead.tryAcquire());
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> waiter = pool.submit(bulkhead::tryAcquire);
+            Thread.sleep(20);
+            bulkhead.release();
+            assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(0, bulkhead.getRejected());
+    }
+
+    @Test
+    public void testRejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(1, Duration.ofMillis(-1)));
+    }
+}
@@ -0,0 +1,143 @@
+package com.budgetbuddy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private long now = 0;
+
+    // Window of 10, trips at 50% once 4 calls are recorded, 1s counts as slow, stays open for 30s
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker(10, 4, 50, Duration.ofSeconds(1), Duration.ofSeconds(30), () -> now);
+    }
+
+    private static String succeed(CircuitBreaker breaker) {
+        return breaker.call(() -> "ok", () -> new IllegalStateException("open"));
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        assertThrows(ArithmeticException.class, () -> breaker.call(() -> {
+            throw new ArithmeticException("query failed");
+        }, () -> new IllegalStateException("open")));
+    }
+
+    @Test
+    public void testTripsOnFailureRateAndFailsFast() {
+        CircuitBreaker breaker = breaker();
+        succeed(breaker);
+        fail(breaker);
+        succeed(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // 2 of 4 failed
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> succeed(breaker));
+        assertEquals("open", e.getMessage());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    public void testFailuresBelowMinimumCallsDoNotTrip() {
+        CircuitBreaker breaker = breaker();
+        fail(breaker);
+        fail(breaker);
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testSlowCallsCountAsFailures() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(() -> {
+                now += 2 * SECOND;
+                return "slow but fine";
+            }, () -> new IllegalStateException("open"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(4, breaker.getFailedCalls());
+    }
+
+    @Test
+    public void testHalfOpenTrialClosesOrReopens() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now += 30 * SECOND;
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now += 30 * SECOND;
+        assertEquals("ok", succeed(breaker));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // The window starts clean after closing
+        fail(breaker);
+        fail(breaker);
+        succeed(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testOnlyOneTrialAtATime() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        now += 30 * SECOND;
+
+        String result = breaker.call(() -> {
+            // Another caller arrives while the trial is still running
+            assertThrows(IllegalStateException.class, () -> succeed(breaker));
+            return "trial";
+        }, () -> new IllegalStateException("open"));
+
+        assertEquals("trial", result);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testAsyncCallsRecordTheirOutcome() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            CircuitBreaker.Call call = breaker.tryCall();
+            now += 2 * SECOND;
+            call.succeeded();
+            // Ending a call twice records it once
+            call.failed();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(4, breaker.getFailedCalls());
+        assertNull(breaker.tryCall());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    public void testCancelledTrialFreesTheSlot() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        now += 30 * SECOND;
+
+        CircuitBreaker.Call trial = breaker.tryCall();
+        assertNull(breaker.tryCall());
+        trial.cancelled();
+
+        assertEquals("ok", succeed(breaker));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,72 @@
+package com.budgetbuddy.util;
+
+import com.budgetbuddy.config.JwtProperties;
+import com.budgetbuddy.config.UserPrincipal;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-0123456789";
+
+    private SimpleMeterRegistry registry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    public void setup() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setTokenCacheMaxEntries(2);
+        registry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(properties, registry);
+    }
+
+    private double cacheCount(String result) {
+        return registry.get("jwt.token.cache.requests").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    public void testAuthenticate_VerifiesOnceThenServesFromCache() {
+        String token = jwtUtil.generateToken(42L, "john.doe@example.com");
+
+        UserPrincipal first = jwtUtil.authenticate(token);
+        UserPrincipal second = jwtUtil.authenticate(token);
+
+        assertEquals(42L, first.userId());
+        assertEquals("john.doe@example.com", first.email());
+        assertNotNull(first.tokenId());
+        assertEquals(first, second);
+        assertEquals(1.0, cacheCount("miss"));
+        assertEquals(1.0, cacheCount("hit"));
+    }
+
+    @Test
+    public void testAuthenticate_RejectsTamperedAndExpiredTokens() {
+        String token = jwtUtil.generateToken(42L, "john.doe@example.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertNull(jwtUtil.authenticate(tampered));
+        assertNull(jwtUtil.authenticate("not-a-jwt"));
+
+        String expired = Jwts.builder()
+                .subject("john.doe@example.com")
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+        assertNull(jwtUtil.authenticate(expired));
+    }
+
+    @Test
+    public void testAuthenticate_CacheIsBounded() {
+        for (long id = 1; id <= 5; id++) {
+            assertNotNull(jwtUtil.authenticate(jwtUtil.generateToken(id, "user" + id + "@example.com")));
+        }
+        assertEquals(2.0, registry.get("jwt.token.cache.size").gauge().value());
+    }
+}
@@ -0,0 +1,156 @@
+package com.budgetbuddy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    // Runs CALLERS calls for key; the first one's loader blocks until every other caller has joined it
+    private List<Future<String>> callWhileBlocked(SingleFlight<String, String> flight, String key,
+                                                  Supplier<String> loader, ExecutorService pool) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        long collapsedBefore = flight.getCollapsed();
+
+        List<Future<String>> calls = new ArrayList<>();
+        calls.add(pool.submit(() -> flight.execute(key, () -> {
+            started.countDown();
+            await(release);
+            return loader.get();
+        })));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            calls.add(pool.submit(() -> flight.execute(key, loader)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.getCollapsed() - collapsedBefore < CALLERS - 1) {
+            assertTrue(System.nanoTime() < deadline, "callers did not join the running load");
+            Thread.sleep(1);
+        }
+        release.countDown();
+        return calls;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testConcurrentCallsShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(WAIT);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> calls = callWhileBlocked(flight, "user-1",
+                    () -> "summary-" + loads.incrementAndGet(), pool);
+            for (Future<String> call : calls) {
+                assertEquals("summary-1", call.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, flight.getCollapsed());
+        assertEquals(0, flight.getInFlight());
+    }
+
+    @Test
+    public void testResultsAreNotRetained() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(WAIT);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("1", flight.execute("k", () -> Integer.toString(loads.incrementAndGet())));
+        assertEquals("2", flight.execute("k", () -> Integer.toString(loads.incrementAndGet())));
+        assertEquals(0, flight.getCollapsed());
+    }
+
+    @Test
+    public void testFailureIsSharedAndNotRetained() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(WAIT);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> calls = callWhileBlocked(flight, "k", () -> {
+                throw new IllegalStateException("database down");
+            }, pool);
+            for (Future<String> call : calls) {
+                Exception e = assertThrows(Exception.class, () -> call.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals("ok", flight.execute("k", () -> "ok"));
+    }
+
+    @Test
+    public void testForgottenLoadIsNotJoined() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(WAIT);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> old = pool.submit(() -> flight.execute("k", () -> {
+                started.countDown();
+                await(release);
+                return "before write";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            flight.forget("k");
+            assertEquals("after write", flight.execute("k", () -> "after write"));
+
+            release.countDown();
+            assertEquals("before write", old.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(0, flight.getCollapsed());
+    }
+
+    @Test
+    public void testWaiterGivesUpWhileTheLoadKeepsRunning() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = pool.submit(() -> flight.execute("k", () -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TimeoutException.class, () -> flight.execute("k", () -> "unused"));
+
+            release.countDown();
+            assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, flight.getCollapsed());
+    }
+}
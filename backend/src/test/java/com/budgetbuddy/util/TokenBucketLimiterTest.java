@@ -0,0 +1,54 @@
+package com.budgetbuddy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBurstThenRefill() {
+        // 3 burst, one token back per second
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 1, Duration.ofSeconds(1), 4, 100);
+        long now = 0;
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("10.0.0.1", now));
+        }
+        long wait = limiter.tryAcquire("10.0.0.1", now);
+        assertTrue(wait > 0 && wait <= SECOND);
+
+        // Other keys have their own bucket
+        assertEquals(0, limiter.tryAcquire("10.0.0.2", now));
+
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", now + SECOND));
+        assertTrue(limiter.tryAcquire("10.0.0.1", now + SECOND) > 0);
+    }
+
+    @Test
+    public void testIdleBucketsAreEvicted() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 1, Duration.ofSeconds(1), 1, 100);
+        long now = System.nanoTime();
+        limiter.tryAcquire("a", now);
+        limiter.tryAcquire("b", now);
+        assertEquals(2, limiter.size());
+
+        // Both would be full again after 2s, so the next access sweeps them
+        limiter.tryAcquire("c", now + 3 * SECOND);
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    public void testKeyCountIsBounded() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 1, Duration.ofMinutes(1), 2, 10);
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("key-" + i, 0);
+        }
+        assertTrue(limiter.size() <= 10);
+    }
+}
@@ -121,7 +121,7 @@ function toApiPayload(draftOrPatch) {
 
 // Handles different list payload shapes:
 //  - [ ... ] plain array
-//  - { content: [...], totalElements, number, size, ... }  (Spring Page)
+//  - { content: [...], accounts: {...}, totalElements, number, size, ... }
 //  - { transactions: [...] }
 function normalizeListPayload(data) {
   if (!data) {
@@ -133,10 +133,16 @@ function normalizeListPayload(data) {
     return { items: data, total: data.length };
   }
 
-  // Spring Page<TransactionEntity>
+  // Page of flat rows ({ content, accounts, totalElements, ... }).
+  // Rows only carry accountId; each account is listed once in `accounts`, keyed by id.
   if (Array.isArray(data.content)) {
+    const accounts = data.accounts || {};
+    const items = data.content.map((txn) => {
+      const acc = accounts[txn.accountId];
+      return acc && !txn.account ? { ...txn, account: { id: txn.accountId, ...acc } } : txn;
+    });
     return {
-      items: data.content,
+      items,
       total:
         typeof data.totalElements === 'number'
           ? data.totalElements
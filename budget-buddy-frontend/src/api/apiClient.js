@@ -16,15 +16,69 @@ api.interceptors.request.use((config) => {
   return config;
 });
 
-// Optional: centralize 401 handling
+// Access tokens are short-lived. On 401/403 trade the refresh token for a new pair once and retry.
+// Refresh tokens are single-use and every tab shares the one in localStorage, so refreshes are serialized:
+// within a tab by sharing one promise, across tabs by a Web Lock. A tab that gets the lock after another
+// has refreshed finds the new pair in storage and uses it instead of spending the old token again.
+let refreshing = null;
+
+function withRefreshLock(task) {
+  return navigator.locks ? navigator.locks.request("bb-refresh", task) : task();
+}
+
+async function postRefresh(refreshToken) {
+  if (!refreshToken) {
+    throw new Error("No refresh token");
+  }
+  try {
+    const { data } = await axios.post(`${baseURL}/api/auth/refresh`, { refreshToken });
+    localStorage.setItem("bb_token", data.token);
+    localStorage.setItem("bb_refresh_token", data.refreshToken);
+    return data.token;
+  } catch (err) {
+    // Without Web Locks another tab can rotate the token first. The server refuses a reuse that soon
+    // without ending the session, and the other tab has already stored the newer pair.
+    const newer = localStorage.getItem("bb_refresh_token");
+    if (err?.response?.status === 401 && newer && newer !== refreshToken) {
+      return localStorage.getItem("bb_token");
+    }
+    throw err;
+  }
+}
+
+function refreshSession(failedToken) {
+  if (!refreshing) {
+    refreshing = withRefreshLock(() => {
+      const current = localStorage.getItem("bb_token");
+      if (current && current !== failedToken) {
+        return current;
+      }
+      return postRefresh(localStorage.getItem("bb_refresh_token"));
+    }).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+}
+
 api.interceptors.response.use(
   (res) => res,
-  (err) => {
-    if (err?.response?.status === 401) {
-      // If your app wants to auto-logout on 401s:
-      // localStorage.removeItem("bb_token");
-      // localStorage.removeItem("bb_current_user");
-      // window.location.reload();
+  async (err) => {
+    const status = err?.response?.status;
+    const original = err?.config;
+    const isAuthCall = original?.url?.startsWith("/api/auth/");
+    if ((status === 401 || status === 403) && original && !original._retried && !isAuthCall) {
+      original._retried = true;
+      try {
+        const failedToken = original.headers?.Authorization?.replace(/^Bearer /, "") ?? null;
+        const token = await refreshSession(failedToken);
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch {
+        // Refresh token missing, expired or revoked; the user has to sign in again
+        localStorage.removeItem("bb_token");
+        localStorage.removeItem("bb_refresh_token");
+      }
     }
     return Promise.reject(err);
   }
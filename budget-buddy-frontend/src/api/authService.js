@@ -12,8 +12,9 @@ function decodeJwt(token) {
   }
 }
 
-function persistSession(token, user) {
+function persistSession(token, refreshToken, user) {
   localStorage.setItem("bb_token", token);
+  if (refreshToken) localStorage.setItem("bb_refresh_token", refreshToken);
   localStorage.setItem("bb_current_user", JSON.stringify(user));
 }
 
@@ -25,6 +26,7 @@ export function getCurrentUser() {
 
 export function clearSession() {
   localStorage.removeItem("bb_token");
+  localStorage.removeItem("bb_refresh_token");
   localStorage.removeItem("bb_current_user");
 }
 
@@ -52,7 +54,7 @@ export async function login(email, password) {
     // You can enrich this later after adding a /me endpoint
     const user = { email: subjectEmail };
 
-    persistSession(token, user);
+    persistSession(token, data?.refreshToken, user);
     return user;
   } catch (err) {
     const msg = err?.response?.data || "Invalid email or password.";
@@ -61,12 +63,12 @@ export async function login(email, password) {
 }
 
 export async function logout() {
-  // backend is stateless; just clear locally
-  clearSession();
+  // Revoke server-side first (the request still needs the token), then clear locally regardless
+  const refreshToken = localStorage.getItem("bb_refresh_token");
   try {
-    // Optional: let backend log it for analytics
-    await api.post("/api/auth/logout");
+    await api.post("/api/auth/logout", { refreshToken });
   } catch {
     // ignore network errors here
   }
+  clearSession();
 }
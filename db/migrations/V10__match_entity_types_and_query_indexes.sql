@@ -0,0 +1,23 @@
+-- The entities store enums as plain strings (EnumType.STRING), so the PostgreSQL enum types go.
+-- Transaction types are stored by constant name (INCOME/EXPENSE), account types in lower case.
+ALTER TABLE transactions ALTER COLUMN type TYPE VARCHAR(255) USING UPPER(type::text);
+ALTER TABLE accounts ALTER COLUMN type TYPE VARCHAR(255) USING type::text;
+DROP TYPE transaction_type;
+DROP TYPE account_type;
+
+-- Indexes shaped after the queries in TransactionRepository. Every hot query filters on user_id and
+-- orders or ranges on date or amount, with id as the tie-breaker used by keyset pagination.
+
+-- Date-ordered pages (both directions), recent-N, export ranges. The INCLUDE columns let the
+-- recent-activity projection read only the index.
+CREATE INDEX idx_transactions_user_date_id ON transactions(user_id, date, id)
+    INCLUDE (account_id, amount_cents, type, category);
+
+-- Amount-ordered pages
+CREATE INDEX idx_transactions_user_amount_id ON transactions(user_id, amount_cents, id);
+
+-- Superseded: the new date index covers (user_id, date DESC) by scanning backwards; nothing filters on
+-- date alone; and category is matched with LIKE '%...%', which a btree can't serve.
+DROP INDEX idx_transactions_user_id_date;
+DROP INDEX idx_transactions_date;
+DROP INDEX idx_transactions_user_id_category;
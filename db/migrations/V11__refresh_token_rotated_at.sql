@@ -0,0 +1,2 @@
+-- When a refresh token was traded for a new pair. A second use shortly after is a tab race, not theft.
+ALTER TABLE refresh_tokens ADD COLUMN rotated_at TIMESTAMPTZ;
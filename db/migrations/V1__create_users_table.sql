@@ -1,8 +1,8 @@
 CREATE TABLE users (
-         id INTEGER PRIMARY KEY AUTOINCREMENT,
-         first_name VARCHAR(255) NOT NULL,
-         last_name VARCHAR(255) NOT NULL,
-         email VARCHAR(255) NOT NULL UNIQUE,
-         password_hash VARCHAR(255) NOT NULL,
-         created_at TEXT NOT NULL DEFAULT (datetime('now'))
-     );
\ No newline at end of file
+    id SERIAL PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,12 @@
+-- Pre-aggregated monthly totals per user/type/category, maintained by RollupService
+CREATE TABLE monthly_rollups (
+    id SERIAL PRIMARY KEY,
+    user_id INTEGER NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    month_start DATE NOT NULL,
+    type VARCHAR(255) NOT NULL, -- TransactionType constant name (INCOME/EXPENSE), as RollupService writes it
+    category VARCHAR(255) NOT NULL,
+    total DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    txn_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uq_monthly_rollups_key UNIQUE (user_id, month_start, type, category)
+);
+CREATE INDEX idx_monthly_rollups_user_month ON monthly_rollups(user_id, month_start);
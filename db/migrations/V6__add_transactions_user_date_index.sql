@@ -0,0 +1,2 @@
+-- Serves the "most recent N transactions for a user" query without sorting the user's full history
+CREATE INDEX idx_transactions_user_id_date ON transactions(user_id, date DESC);
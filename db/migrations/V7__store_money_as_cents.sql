@@ -0,0 +1,13 @@
+-- Store money as integer cents instead of DECIMAL
+ALTER TABLE accounts ADD COLUMN balance_cents BIGINT NOT NULL DEFAULT 0;
+UPDATE accounts SET balance_cents = ROUND(balance * 100);
+ALTER TABLE accounts DROP COLUMN balance;
+
+ALTER TABLE transactions ADD COLUMN amount_cents BIGINT NOT NULL DEFAULT 0;
+UPDATE transactions SET amount_cents = ROUND(amount * 100);
+ALTER TABLE transactions ALTER COLUMN amount_cents DROP DEFAULT;
+ALTER TABLE transactions DROP COLUMN amount;
+
+ALTER TABLE monthly_rollups ADD COLUMN total_cents BIGINT NOT NULL DEFAULT 0;
+UPDATE monthly_rollups SET total_cents = ROUND(total * 100);
+ALTER TABLE monthly_rollups DROP COLUMN total;
@@ -0,0 +1,19 @@
+-- Long-lived refresh tokens, stored only as a SHA-256 of the opaque value handed to the client.
+-- Each use rotates the token: the old row is marked revoked and a new one issued.
+CREATE TABLE refresh_tokens (
+    id SERIAL PRIMARY KEY,
+    user_id INTEGER NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    token_hash VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT uq_refresh_tokens_hash UNIQUE (token_hash)
+);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens(user_id);
+
+-- Access tokens revoked before their exp, by jti. Rows are only needed until the token would have expired.
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMPTZ NOT NULL
+);
+CREATE INDEX idx_revoked_tokens_expires ON revoked_tokens(expires_at);
@@ -0,0 +1,8 @@
+-- Pooled id sequence for transactions: Hibernate reserves 50 ids per nextval and batches the inserts.
+-- The column default moves to the same sequence so plain SQL inserts keep working.
+CREATE SEQUENCE transactions_seq INCREMENT BY 50;
+SELECT setval('transactions_seq', COALESCE((SELECT MAX(id) FROM transactions), 0) + 50);
+
+ALTER TABLE transactions ALTER COLUMN id SET DEFAULT nextval('transactions_seq');
+ALTER SEQUENCE transactions_seq OWNED BY transactions.id;
+DROP SEQUENCE transactions_id_seq;